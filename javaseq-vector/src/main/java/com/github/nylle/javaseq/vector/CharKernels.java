@@ -0,0 +1,136 @@
+package com.github.nylle.javaseq.vector;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels for searching chars in ranges of {@code char} arrays and strings. Chars are compared as 16-bit lanes.
+ * Strings are copied block by block into a small buffer before searching, since their backing array is not accessible.
+ */
+public final class CharKernels {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    static final int BLOCK_SIZE = 1024;
+
+    private CharKernels() {
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code c} in {@code array} from {@code from} (inclusive) to
+     * {@code to} (exclusive), or -1 if it does not occur in the range.
+     *
+     * @param array the chars
+     * @param from  the first index
+     * @param to    the index after the last char
+     * @param c     the char to search for
+     * @return the index in array of the first occurrence of c, or -1
+     */
+    public static int indexOf(char[] array, int from, int to, char c) {
+        var i = from;
+        for (var bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            var mask = ShortVector.fromCharArray(SPECIES, array, i).compare(VectorOperators.EQ, (short) c);
+            if (mask.anyTrue()) {
+                return i + mask.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (array[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of occurrences of {@code c} in {@code array} from {@code from} (inclusive) to {@code to}
+     * (exclusive).
+     *
+     * @param array the chars
+     * @param from  the first index
+     * @param to    the index after the last char
+     * @param c     the char to count
+     * @return the number of occurrences of c in the range
+     */
+    public static int count(char[] array, int from, int to, char c) {
+        var result = 0;
+        var i = from;
+        for (var bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            result += ShortVector.fromCharArray(SPECIES, array, i).compare(VectorOperators.EQ, (short) c).trueCount();
+        }
+        for (; i < to; i++) {
+            if (array[i] == c) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code c} in {@code s} from {@code from} (inclusive) to {@code to}
+     * (exclusive), or -1 if it does not occur in the range. A range reaching the end of a string is searched with
+     * {@link String#indexOf(int, int)}, which the JVM already vectorizes; other ranges of strings are searched with the
+     * array kernel, and any other CharSequence with a scalar loop.
+     *
+     * @param s    the chars
+     * @param from the first index
+     * @param to   the index after the last char
+     * @param c    the char to search for
+     * @return the index in s of the first occurrence of c, or -1
+     */
+    public static int indexOf(CharSequence s, int from, int to, char c) {
+        if (s instanceof String) {
+            var str = (String) s;
+            if (to == str.length()) {
+                return str.indexOf(c, from);
+            }
+            var block = new char[Math.min(BLOCK_SIZE, to - from)];
+            for (int i = from; i < to; i += block.length) {
+                var end = Math.min(to, i + block.length);
+                str.getChars(i, end, block, 0);
+                var found = indexOf(block, 0, end - i, c);
+                if (found >= 0) {
+                    return i + found;
+                }
+            }
+            return -1;
+        }
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of occurrences of {@code c} in {@code s} from {@code from} (inclusive) to {@code to}
+     * (exclusive). Strings are searched with the array kernel; any other CharSequence is searched with a scalar loop.
+     *
+     * @param s    the chars
+     * @param from the first index
+     * @param to   the index after the last char
+     * @param c    the char to count
+     * @return the number of occurrences of c in the range
+     */
+    public static int count(CharSequence s, int from, int to, char c) {
+        var result = 0;
+        if (s instanceof String) {
+            var str = (String) s;
+            var block = new char[Math.min(BLOCK_SIZE, to - from)];
+            for (int i = from; i < to; i += block.length) {
+                var end = Math.min(to, i + block.length);
+                str.getChars(i, end, block, 0);
+                result += count(block, 0, end - i, c);
+            }
+            return result;
+        }
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == c) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
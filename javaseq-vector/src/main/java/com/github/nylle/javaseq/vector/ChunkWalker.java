@@ -0,0 +1,27 @@
+package com.github.nylle.javaseq.vector;
+
+import com.github.nylle.javaseq.IChunk;
+import com.github.nylle.javaseq.ISeq;
+import com.github.nylle.javaseq.Util;
+
+/**
+ * Walks a seq a chunk at a time, looking through lazy seqs. Items of seqs that are not chunked are returned as chunks
+ * of one item.
+ */
+class ChunkWalker<T> {
+
+    private ISeq<IChunk<T>> chunks;
+
+    ChunkWalker(ISeq<T> seq) {
+        this.chunks = Util.chunkSeq(seq);
+    }
+
+    IChunk<T> next() {
+        if (chunks.isEmpty()) {
+            return null;
+        }
+        var chunk = chunks.first();
+        chunks = chunks.rest();
+        return chunk;
+    }
+}
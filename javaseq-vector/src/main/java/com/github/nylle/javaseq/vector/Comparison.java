@@ -0,0 +1,49 @@
+package com.github.nylle.javaseq.vector;
+
+/**
+ * A comparison of an item with an operand, used by the filter kernels to select items.
+ */
+public enum Comparison {
+    LT,
+    LE,
+    GT,
+    GE,
+    EQ,
+    NE;
+
+    /**
+     * Returns true if {@code x} satisfies this comparison with {@code operand}.
+     *
+     * @param x       the item to test
+     * @param operand the operand to compare x with
+     * @return true if x satisfies this comparison
+     */
+    public boolean test(int x, int operand) {
+        switch (this) {
+            case LT: return x < operand;
+            case LE: return x <= operand;
+            case GT: return x > operand;
+            case GE: return x >= operand;
+            case EQ: return x == operand;
+            default: return x != operand;
+        }
+    }
+
+    /**
+     * Returns true if {@code x} satisfies this comparison with {@code operand}.
+     *
+     * @param x       the item to test
+     * @param operand the operand to compare x with
+     * @return true if x satisfies this comparison
+     */
+    public boolean test(double x, double operand) {
+        switch (this) {
+            case LT: return x < operand;
+            case LE: return x <= operand;
+            case GT: return x > operand;
+            case GE: return x >= operand;
+            case EQ: return x == operand;
+            default: return x != operand;
+        }
+    }
+}
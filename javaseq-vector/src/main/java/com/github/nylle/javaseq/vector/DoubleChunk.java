@@ -0,0 +1,55 @@
+package com.github.nylle.javaseq.vector;
+
+import com.github.nylle.javaseq.IChunk;
+
+public class DoubleChunk implements IChunk<Double> {
+
+    private final double[] array;
+    private final int offset;
+    private final int end;
+
+    DoubleChunk(double[] array, int offset, int end) {
+        this.array = array;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    @Override
+    public Double nth(int n) {
+        return nthDouble(n);
+    }
+
+    public double nthDouble(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return array[offset + n];
+    }
+
+    @Override
+    public IChunk<Double> dropFirst() {
+        return new DoubleChunk(array, offset + 1, end);
+    }
+
+    @Override
+    public IChunk<Double> dropLast(int n) {
+        return new DoubleChunk(array, offset, end - n);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    double[] array() {
+        return array;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    int end() {
+        return end;
+    }
+}
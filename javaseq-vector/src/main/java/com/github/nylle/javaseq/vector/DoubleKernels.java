@@ -0,0 +1,132 @@
+package com.github.nylle.javaseq.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels over ranges of {@code double} arrays. Each kernel processes as many lanes at once as the preferred vector
+ * shape of the platform allows and finishes the remainder of the range with a scalar loop.
+ */
+public final class DoubleKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private DoubleKernels() {
+    }
+
+    /**
+     * Returns the sum of the items in {@code array} from {@code from} (inclusive) to {@code to} (exclusive). The items
+     * are added lane by lane, so the result may differ from a sequential sum in the last bits due to rounding.
+     *
+     * @param array the items
+     * @param from  the first index
+     * @param to    the index after the last item
+     * @return the sum of the items in the range
+     */
+    public static double sum(double[] array, int from, int to) {
+        var i = from;
+        var acc = DoubleVector.zero(SPECIES);
+        for (var bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            acc = acc.add(DoubleVector.fromArray(SPECIES, array, i));
+        }
+        var result = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            result += array[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the least item in {@code array} from {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @param array the items
+     * @param from  the first index
+     * @param to    the index after the last item, which must be greater than from
+     * @return the least item in the range
+     */
+    public static double min(double[] array, int from, int to) {
+        IntKernels.checkNotEmpty(from, to);
+        var i = from;
+        var acc = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+        for (var bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            acc = acc.min(DoubleVector.fromArray(SPECIES, array, i));
+        }
+        var result = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the greatest item in {@code array} from {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @param array the items
+     * @param from  the first index
+     * @param to    the index after the last item, which must be greater than from
+     * @return the greatest item in the range
+     */
+    public static double max(double[] array, int from, int to) {
+        IntKernels.checkNotEmpty(from, to);
+        var i = from;
+        var acc = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+        for (var bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            acc = acc.max(DoubleVector.fromArray(SPECIES, array, i));
+        }
+        var result = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Copies the items in {@code array} from {@code from} (inclusive) to {@code to} (exclusive) that satisfy
+     * {@code comparison} with {@code operand} to the start of {@code dest}, keeping their order.
+     * Vectors without a match are skipped with a single test, which pays off when few items match; the Vector API of
+     * Java 17 has no compress operation, so matching lanes are then copied one by one.
+     *
+     * @param array      the items
+     * @param from       the first index
+     * @param to         the index after the last item
+     * @param comparison the comparison of each item with operand
+     * @param operand    the operand to compare items with
+     * @param dest       the array to copy matching items to, with room for at least {@code to - from} items
+     * @return the number of items copied to dest
+     */
+    public static int filter(double[] array, int from, int to, Comparison comparison, double operand, double[] dest) {
+        var n = 0;
+        var i = from;
+        var operands = DoubleVector.broadcast(SPECIES, operand);
+        for (var bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            var mask = compare(DoubleVector.fromArray(SPECIES, array, i), comparison, operands);
+            if (mask.anyTrue()) {
+                var bits = mask.toLong();
+                while (bits != 0) {
+                    dest[n++] = array[i + Long.numberOfTrailingZeros(bits)];
+                    bits &= bits - 1;
+                }
+            }
+        }
+        for (; i < to; i++) {
+            if (comparison.test(array[i], operand)) {
+                dest[n++] = array[i];
+            }
+        }
+        return n;
+    }
+
+    // every call to compare names its operator as a constant, which the JIT needs in order to intrinsify it
+    private static VectorMask<Double> compare(DoubleVector v, Comparison comparison, DoubleVector operands) {
+        switch (comparison) {
+            case LT: return v.compare(VectorOperators.LT, operands);
+            case LE: return v.compare(VectorOperators.LE, operands);
+            case GT: return v.compare(VectorOperators.GT, operands);
+            case GE: return v.compare(VectorOperators.GE, operands);
+            case EQ: return v.compare(VectorOperators.EQ, operands);
+            default: return v.compare(VectorOperators.NE, operands);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.nylle.javaseq.vector;
+
+import com.github.nylle.javaseq.IChunk;
+
+public class IntChunk implements IChunk<Integer> {
+
+    private final int[] array;
+    private final int offset;
+    private final int end;
+
+    IntChunk(int[] array, int offset, int end) {
+        this.array = array;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    @Override
+    public Integer nth(int n) {
+        return nthInt(n);
+    }
+
+    public int nthInt(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return array[offset + n];
+    }
+
+    @Override
+    public IChunk<Integer> dropFirst() {
+        return new IntChunk(array, offset + 1, end);
+    }
+
+    @Override
+    public IChunk<Integer> dropLast(int n) {
+        return new IntChunk(array, offset, end - n);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    int[] array() {
+        return array;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    int end() {
+        return end;
+    }
+}
@@ -0,0 +1,394 @@
+package com.github.nylle.javaseq.vector;
+
+import com.github.nylle.javaseq.CharChunk;
+import com.github.nylle.javaseq.CharSlice;
+import com.github.nylle.javaseq.IChunk;
+import com.github.nylle.javaseq.ISeq;
+import com.github.nylle.javaseq.StringChunk;
+import com.github.nylle.javaseq.StringSeq;
+import com.github.nylle.javaseq.Util;
+
+import java.util.Optional;
+
+/**
+ * Seq operations backed by the SIMD kernels of this package. Seqs created with {@link #intSeq} and {@link #doubleSeq}
+ * consist of primitive chunks that the kernels process directly; string seqs and chunks of chars are searched in place.
+ * Any other seq is walked item by item with the equivalent scalar code, so the operations accept every seq of the
+ * right item type and return the same results for it.
+ * <p>
+ * Requires the incubating Vector API at runtime: start the JVM with {@code --add-modules jdk.incubator.vector}.
+ */
+public final class VectorSeqs {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private VectorSeqs() {
+    }
+
+    /**
+     * Returns a lazy seq of the items in {@code array}, in chunks of primitive ints that the kernels process directly.
+     * The array is not copied, so it must not be modified while the seq is in use.
+     *
+     * @param array the items
+     * @return a seq of the items in array, or an empty seq if array is null or empty
+     */
+    public static ISeq<Integer> intSeq(int[] array) {
+        if (array == null || array.length == 0) {
+            return ISeq.of();
+        }
+        return intSeq(array, 0);
+    }
+
+    private static ISeq<Integer> intSeq(int[] array, int from) {
+        return ISeq.lazySeq(() -> {
+            var end = Math.min(array.length, from + CHUNK_SIZE);
+            return Util.chunkedCons(new IntChunk(array, from, end), end < array.length ? intSeq(array, end) : ISeq.of());
+        });
+    }
+
+    /**
+     * Returns a lazy seq of the items in {@code array}, in chunks of primitive doubles that the kernels process
+     * directly. The array is not copied, so it must not be modified while the seq is in use.
+     *
+     * @param array the items
+     * @return a seq of the items in array, or an empty seq if array is null or empty
+     */
+    public static ISeq<Double> doubleSeq(double[] array) {
+        if (array == null || array.length == 0) {
+            return ISeq.of();
+        }
+        return doubleSeq(array, 0);
+    }
+
+    private static ISeq<Double> doubleSeq(double[] array, int from) {
+        return ISeq.lazySeq(() -> {
+            var end = Math.min(array.length, from + CHUNK_SIZE);
+            return Util.chunkedCons(new DoubleChunk(array, from, end), end < array.length ? doubleSeq(array, end) : ISeq.of());
+        });
+    }
+
+    /**
+     * Returns the sum of the items in {@code seq}. Like {@link java.util.stream.IntStream#sum}, the sum overflows
+     * silently.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If it is infinite, this will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param seq the items
+     * @return the sum of the items, or 0 if seq is empty
+     */
+    public static int sumInts(ISeq<Integer> seq) {
+        var result = 0;
+        var walker = new ChunkWalker<>(seq);
+        for (var chunk = walker.next(); chunk != null; chunk = walker.next()) {
+            if (chunk instanceof IntChunk ints) {
+                result += IntKernels.sum(ints.array(), ints.offset(), ints.end());
+            } else {
+                for (int i = 0; i < chunk.count(); i++) {
+                    result += chunk.nth(i);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the least item in {@code seq}.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If it is infinite, this will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param seq the items
+     * @return the least item, or an empty optional if seq is empty
+     */
+    public static Optional<Integer> minInts(ISeq<Integer> seq) {
+        Integer result = null;
+        var walker = new ChunkWalker<>(seq);
+        for (var chunk = walker.next(); chunk != null; chunk = walker.next()) {
+            var min = chunk instanceof IntChunk ints
+                    ? IntKernels.min(ints.array(), ints.offset(), ints.end())
+                    : scalarMinInts(chunk);
+            result = result == null ? min : Math.min(result, min);
+        }
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Returns the greatest item in {@code seq}.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If it is infinite, this will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param seq the items
+     * @return the greatest item, or an empty optional if seq is empty
+     */
+    public static Optional<Integer> maxInts(ISeq<Integer> seq) {
+        Integer result = null;
+        var walker = new ChunkWalker<>(seq);
+        for (var chunk = walker.next(); chunk != null; chunk = walker.next()) {
+            var max = chunk instanceof IntChunk ints
+                    ? IntKernels.max(ints.array(), ints.offset(), ints.end())
+                    : scalarMaxInts(chunk);
+            result = result == null ? max : Math.max(result, max);
+        }
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Returns a lazy seq of the items in {@code seq} that satisfy {@code comparison} with {@code operand}, keeping their
+     * order. The result consists of primitive chunks.
+     *
+     * @param seq        the items
+     * @param comparison the comparison of each item with operand
+     * @param operand    the operand to compare items with
+     * @return a lazy seq of the matching items
+     */
+    public static ISeq<Integer> filterInts(ISeq<Integer> seq, Comparison comparison, int operand) {
+        return filterInts(new ChunkWalker<>(seq), comparison, operand);
+    }
+
+    private static ISeq<Integer> filterInts(ChunkWalker<Integer> walker, Comparison comparison, int operand) {
+        return ISeq.lazySeq(() -> {
+            for (var chunk = walker.next(); chunk != null; chunk = walker.next()) {
+                var dest = new int[chunk.count()];
+                var n = 0;
+                if (chunk instanceof IntChunk ints) {
+                    n = IntKernels.filter(ints.array(), ints.offset(), ints.end(), comparison, operand, dest);
+                } else {
+                    for (int i = 0; i < chunk.count(); i++) {
+                        var x = (int) chunk.nth(i);
+                        if (comparison.test(x, operand)) {
+                            dest[n++] = x;
+                        }
+                    }
+                }
+                if (n > 0) {
+                    return Util.chunkedCons(new IntChunk(dest, 0, n), filterInts(walker, comparison, operand));
+                }
+            }
+            return ISeq.<Integer>of();
+        });
+    }
+
+    /**
+     * Returns the sum of the items in {@code seq}. Primitive chunks are summed lane by lane, so the result may differ
+     * from summing the items in order by rounding.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If it is infinite, this will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param seq the items
+     * @return the sum of the items, or 0.0 if seq is empty
+     */
+    public static double sumDoubles(ISeq<Double> seq) {
+        var result = 0.0;
+        var walker = new ChunkWalker<>(seq);
+        for (var chunk = walker.next(); chunk != null; chunk = walker.next()) {
+            if (chunk instanceof DoubleChunk doubles) {
+                result += DoubleKernels.sum(doubles.array(), doubles.offset(), doubles.end());
+            } else {
+                for (int i = 0; i < chunk.count(); i++) {
+                    result += chunk.nth(i);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the least item in {@code seq}, as determined by {@link Math#min(double, double)}: the result is NaN if
+     * any item is NaN, and -0.0 is less than 0.0.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If it is infinite, this will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param seq the items
+     * @return the least item, or an empty optional if seq is empty
+     */
+    public static Optional<Double> minDoubles(ISeq<Double> seq) {
+        Double result = null;
+        var walker = new ChunkWalker<>(seq);
+        for (var chunk = walker.next(); chunk != null; chunk = walker.next()) {
+            var min = chunk instanceof DoubleChunk doubles
+                    ? DoubleKernels.min(doubles.array(), doubles.offset(), doubles.end())
+                    : scalarMinDoubles(chunk);
+            result = result == null ? min : Math.min(result, min);
+        }
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Returns the greatest item in {@code seq}, as determined by {@link Math#max(double, double)}: the result is NaN if
+     * any item is NaN, and 0.0 is greater than -0.0.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If it is infinite, this will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param seq the items
+     * @return the greatest item, or an empty optional if seq is empty
+     */
+    public static Optional<Double> maxDoubles(ISeq<Double> seq) {
+        Double result = null;
+        var walker = new ChunkWalker<>(seq);
+        for (var chunk = walker.next(); chunk != null; chunk = walker.next()) {
+            var max = chunk instanceof DoubleChunk doubles
+                    ? DoubleKernels.max(doubles.array(), doubles.offset(), doubles.end())
+                    : scalarMaxDoubles(chunk);
+            result = result == null ? max : Math.max(result, max);
+        }
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Returns a lazy seq of the items in {@code seq} that satisfy {@code comparison} with {@code operand}, keeping their
+     * order. The result consists of primitive chunks.
+     *
+     * @param seq        the items
+     * @param comparison the comparison of each item with operand
+     * @param operand    the operand to compare items with
+     * @return a lazy seq of the matching items
+     */
+    public static ISeq<Double> filterDoubles(ISeq<Double> seq, Comparison comparison, double operand) {
+        return filterDoubles(new ChunkWalker<>(seq), comparison, operand);
+    }
+
+    private static ISeq<Double> filterDoubles(ChunkWalker<Double> walker, Comparison comparison, double operand) {
+        return ISeq.lazySeq(() -> {
+            for (var chunk = walker.next(); chunk != null; chunk = walker.next()) {
+                var dest = new double[chunk.count()];
+                var n = 0;
+                if (chunk instanceof DoubleChunk doubles) {
+                    n = DoubleKernels.filter(doubles.array(), doubles.offset(), doubles.end(), comparison, operand, dest);
+                } else {
+                    for (int i = 0; i < chunk.count(); i++) {
+                        var x = (double) chunk.nth(i);
+                        if (comparison.test(x, operand)) {
+                            dest[n++] = x;
+                        }
+                    }
+                }
+                if (n > 0) {
+                    return Util.chunkedCons(new DoubleChunk(dest, 0, n), filterDoubles(walker, comparison, operand));
+                }
+            }
+            return ISeq.<Double>of();
+        });
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code c} in {@code seq}, or -1 if it does not occur. String seqs
+     * and chunks of chars are searched in place.
+     * <p>
+     * <b>Caution:</b> The seq may be fully realized. If it is infinite and c does not occur, this will run infinitely
+     * or until system resources are exhausted.
+     *
+     * @param seq the chars
+     * @param c   the char to search for
+     * @return the index of the first occurrence of c, or -1
+     */
+    public static int indexOf(ISeq<Character> seq, char c) {
+        if (seq instanceof StringSeq s) {
+            return indexOf(s.slice(), c);
+        }
+        var position = 0;
+        var walker = new ChunkWalker<>(seq);
+        for (var chunk = walker.next(); chunk != null; chunk = walker.next()) {
+            var found = indexOf(chunk, c);
+            if (found >= 0) {
+                return position + found;
+            }
+            position += chunk.count();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of occurrences of {@code c} in {@code seq}. String seqs and chunks of chars are searched in
+     * place.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If it is infinite, this will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param seq the chars
+     * @param c   the char to count
+     * @return the number of occurrences of c
+     */
+    public static int countChars(ISeq<Character> seq, char c) {
+        if (seq instanceof StringSeq s) {
+            return count(s.slice(), c);
+        }
+        var result = 0;
+        var walker = new ChunkWalker<>(seq);
+        for (var chunk = walker.next(); chunk != null; chunk = walker.next()) {
+            if (chunk instanceof CharChunk chars) {
+                result += CharKernels.count(chars.array(), chars.offset(), chars.offset() + chars.count(), c);
+            } else if (chunk instanceof StringChunk str) {
+                result += count(str.slice(), c);
+            } else {
+                for (int i = 0; i < chunk.count(); i++) {
+                    if (chunk.nth(i) == c) {
+                        result++;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int indexOf(IChunk<Character> chunk, char c) {
+        if (chunk instanceof CharChunk chars) {
+            var found = CharKernels.indexOf(chars.array(), chars.offset(), chars.offset() + chars.count(), c);
+            return found < 0 ? -1 : found - chars.offset();
+        }
+        if (chunk instanceof StringChunk str) {
+            return indexOf(str.slice(), c);
+        }
+        for (int i = 0; i < chunk.count(); i++) {
+            if (chunk.nth(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSlice slice, char c) {
+        var found = CharKernels.indexOf(slice.source(), slice.offset(), slice.offset() + slice.length(), c);
+        return found < 0 ? -1 : found - slice.offset();
+    }
+
+    private static int count(CharSlice slice, char c) {
+        return CharKernels.count(slice.source(), slice.offset(), slice.offset() + slice.length(), c);
+    }
+
+    private static int scalarMinInts(IChunk<Integer> chunk) {
+        var result = (int) chunk.nth(0);
+        for (int i = 1; i < chunk.count(); i++) {
+            result = Math.min(result, chunk.nth(i));
+        }
+        return result;
+    }
+
+    private static int scalarMaxInts(IChunk<Integer> chunk) {
+        var result = (int) chunk.nth(0);
+        for (int i = 1; i < chunk.count(); i++) {
+            result = Math.max(result, chunk.nth(i));
+        }
+        return result;
+    }
+
+    private static double scalarMinDoubles(IChunk<Double> chunk) {
+        var result = (double) chunk.nth(0);
+        for (int i = 1; i < chunk.count(); i++) {
+            result = Math.min(result, chunk.nth(i));
+        }
+        return result;
+    }
+
+    private static double scalarMaxDoubles(IChunk<Double> chunk) {
+        var result = (double) chunk.nth(0);
+        for (int i = 1; i < chunk.count(); i++) {
+            result = Math.max(result, chunk.nth(i));
+        }
+        return result;
+    }
+}
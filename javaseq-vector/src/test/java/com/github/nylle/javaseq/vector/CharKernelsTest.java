@@ -0,0 +1,37 @@
+package com.github.nylle.javaseq.vector;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CharKernelsTest {
+
+    private static final String TEXT = "abcdefghijklmnopqrstuvwxyz".repeat(100) + "š" + "abc".repeat(500);
+
+    @Test
+    void indexOfAgreesWithString() {
+        var array = TEXT.toCharArray();
+        for (var c : new char[]{'a', 'z', 'š', '!'}) {
+            assertThat(CharKernels.indexOf(array, 0, array.length, c)).isEqualTo(TEXT.indexOf(c));
+            assertThat(CharKernels.indexOf(TEXT, 0, TEXT.length(), c)).isEqualTo(TEXT.indexOf(c));
+            assertThat(CharKernels.indexOf(new StringBuilder(TEXT), 0, TEXT.length(), c)).isEqualTo(TEXT.indexOf(c));
+        }
+        assertThat(CharKernels.indexOf(array, 27, 60, 'a')).isEqualTo(52);
+        assertThat(CharKernels.indexOf(array, 27, 40, 'z')).isEqualTo(-1);
+        assertThat(CharKernels.indexOf(TEXT, 1025, 2600, 'b')).isEqualTo(1041);
+        assertThat(CharKernels.indexOf(TEXT, 3, 3, 'd')).isEqualTo(-1);
+    }
+
+    @Test
+    void countAgreesWithString() {
+        var array = TEXT.toCharArray();
+        for (var c : new char[]{'a', 'z', 'š', '!'}) {
+            var expected = (int) TEXT.chars().filter(x -> x == c).count();
+
+            assertThat(CharKernels.count(array, 0, array.length, c)).isEqualTo(expected);
+            assertThat(CharKernels.count(TEXT, 0, TEXT.length(), c)).isEqualTo(expected);
+            assertThat(CharKernels.count(new StringBuilder(TEXT), 0, TEXT.length(), c)).isEqualTo(expected);
+        }
+        assertThat(CharKernels.count(TEXT, 1, 27, 'a')).isEqualTo(1);
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.nylle.javaseq.vector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class DoubleKernelsTest {
+
+    private static double[] randomIntegralDoubles(int size) {
+        return new Random(42).ints(size, -1000, 1000).asDoubleStream().toArray();
+    }
+
+    @Test
+    void sumMinAndMaxAgreeWithScalarLoops() {
+        var array = randomIntegralDoubles(1000);
+        for (var range : new int[][]{{0, 1000}, {3, 997}, {0, 1}, {10, 17}}) {
+            assertThat(DoubleKernels.sum(array, range[0], range[1])).isEqualTo(Arrays.stream(array, range[0], range[1]).sum());
+            assertThat(DoubleKernels.min(array, range[0], range[1])).isEqualTo(Arrays.stream(array, range[0], range[1]).min().getAsDouble());
+            assertThat(DoubleKernels.max(array, range[0], range[1])).isEqualTo(Arrays.stream(array, range[0], range[1]).max().getAsDouble());
+        }
+        assertThat(DoubleKernels.sum(array, 7, 7)).isZero();
+    }
+
+    @Test
+    void minAndMaxPropagateNaN() {
+        var array = randomIntegralDoubles(100);
+        array[50] = Double.NaN;
+
+        assertThat(DoubleKernels.min(array, 0, 100)).isNaN();
+        assertThat(DoubleKernels.max(array, 0, 100)).isNaN();
+    }
+
+    @Test
+    void minAndMaxOfEmptyRangeThrow() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> DoubleKernels.min(new double[4], 2, 2))
+                .withMessage("range 2 to 2 is empty");
+    }
+
+    @Test
+    void filterCompactsMatchingItemsInOrder() {
+        var array = randomIntegralDoubles(1000);
+        for (var comparison : Comparison.values()) {
+            var dest = new double[1000];
+
+            var n = DoubleKernels.filter(array, 0, 1000, comparison, 17.0, dest);
+
+            var expected = Arrays.stream(array).filter(x -> comparison.test(x, 17.0)).toArray();
+            assertThat(Arrays.copyOf(dest, n)).as(comparison.name()).containsExactly(expected);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.nylle.javaseq.vector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntKernelsTest {
+
+    private static int[] randomInts(int size) {
+        return new Random(42).ints(size, -1000, 1000).toArray();
+    }
+
+    @Test
+    void sumMinAndMaxAgreeWithScalarLoops() {
+        var array = randomInts(1000);
+        for (var range : new int[][]{{0, 1000}, {3, 997}, {0, 1}, {10, 17}, {500, 500}}) {
+            var expected = Arrays.stream(array, range[0], range[1]);
+
+            assertThat(IntKernels.sum(array, range[0], range[1])).isEqualTo(expected.sum());
+            if (range[1] > range[0]) {
+                assertThat(IntKernels.min(array, range[0], range[1])).isEqualTo(Arrays.stream(array, range[0], range[1]).min().getAsInt());
+                assertThat(IntKernels.max(array, range[0], range[1])).isEqualTo(Arrays.stream(array, range[0], range[1]).max().getAsInt());
+            }
+        }
+    }
+
+    @Test
+    void sumOverflowsLikeIntAddition() {
+        var array = new int[100];
+        Arrays.fill(array, Integer.MAX_VALUE);
+
+        assertThat(IntKernels.sum(array, 0, 100)).isEqualTo(Arrays.stream(array).sum());
+    }
+
+    @Test
+    void minAndMaxOfEmptyRangeThrow() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> IntKernels.min(new int[4], 2, 2))
+                .withMessage("range 2 to 2 is empty");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> IntKernels.max(new int[4], 3, 1))
+                .withMessage("range 3 to 1 is empty");
+    }
+
+    @Test
+    void filterCompactsMatchingItemsInOrder() {
+        var array = randomInts(1000);
+        for (var comparison : Comparison.values()) {
+            var dest = new int[995];
+
+            var n = IntKernels.filter(array, 5, 1000, comparison, 17, dest);
+
+            var expected = Arrays.stream(array, 5, 1000).filter(x -> comparison.test(x, 17)).toArray();
+            assertThat(Arrays.copyOf(dest, n)).as(comparison.name()).containsExactly(expected);
+        }
+    }
+}
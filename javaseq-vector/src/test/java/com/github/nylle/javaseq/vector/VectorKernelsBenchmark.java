@@ -0,0 +1,154 @@
+package com.github.nylle.javaseq.vector;
+
+import com.github.nylle.javaseq.ISeq;
+import com.github.nylle.javaseq.StringSeq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the SIMD kernels against the equivalent scalar loops, on plain arrays and through seqs: summing, finding
+ * the least item and filtering ints with a selectivity of 25% and 0.5%, and searching for a char that occurs only at the end of the text.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.github.nylle.javaseq.VectorKernelsBenchmark}
+ * or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class VectorKernelsBenchmark {
+
+    @Param({"1024", "1048576"})
+    private int size;
+
+    @Param({"500", "990"})
+    private int threshold;
+
+    private int[] ints;
+    private int[] dest;
+    private ISeq<Integer> intSeq;
+    private char[] chars;
+    private String text;
+    private StringSeq textSeq;
+
+    @Setup
+    public void createSource() {
+        ints = new Random(42).ints(size, -1000, 1000).toArray();
+        dest = new int[size];
+        intSeq = VectorSeqs.intSeq(ints);
+        text = "a".repeat(size - 1) + "z";
+        chars = text.toCharArray();
+        textSeq = ISeq.stringSeq(text);
+        intSeq.count();
+    }
+
+    @Benchmark
+    public int sumScalar() {
+        var result = 0;
+        for (var x : ints) {
+            result += x;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int sumVector() {
+        return IntKernels.sum(ints, 0, size);
+    }
+
+    @Benchmark
+    public int minScalar() {
+        var result = Integer.MAX_VALUE;
+        for (var x : ints) {
+            result = Math.min(result, x);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int minVector() {
+        return IntKernels.min(ints, 0, size);
+    }
+
+    @Benchmark
+    public int filterScalar() {
+        var n = 0;
+        for (var x : ints) {
+            if (x > threshold) {
+                dest[n++] = x;
+            }
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int filterVector() {
+        return IntKernels.filter(ints, 0, size, Comparison.GT, threshold, dest);
+    }
+
+    @Benchmark
+    public int indexOfScalar() {
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == 'z') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int indexOfVector() {
+        return CharKernels.indexOf(chars, 0, chars.length, 'z');
+    }
+
+    @Benchmark
+    public int indexOfString() {
+        return text.indexOf('z');
+    }
+
+    @Benchmark
+    public int indexOfStringVector() {
+        return CharKernels.indexOf(text, 0, text.length(), 'z');
+    }
+
+    @Benchmark
+    public int seqSumReduce() {
+        return intSeq.reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int seqSumVector() {
+        return VectorSeqs.sumInts(intSeq);
+    }
+
+    @Benchmark
+    public int seqIndexOfStringSeq() {
+        return textSeq.indexOf('z');
+    }
+
+    @Benchmark
+    public int seqIndexOfVector() {
+        return VectorSeqs.indexOf(textSeq, 'z');
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VectorKernelsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.nylle.javaseq.vector;
+
+import com.github.nylle.javaseq.IChunk;
+import com.github.nylle.javaseq.ISeq;
+import com.github.nylle.javaseq.Util;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VectorSeqsTest {
+
+    private static final int[] INTS = new Random(42).ints(3000, -1000, 1000).toArray();
+
+    @Nested
+    class Ints {
+
+        @Test
+        void intSeqWrapsArrayInPrimitiveChunks() {
+            var sut = VectorSeqs.intSeq(INTS);
+
+            assertThat(sut.isRealized()).isFalse();
+            assertThat(sut).hasSize(3000);
+            assertThat(sut.nth(2999)).isEqualTo(INTS[2999]);
+            assertThat(Util.chunkSeq(sut).map(IChunk::count)).hasSize(3).allMatch(x -> x == VectorSeqs.CHUNK_SIZE || x == 3000 % VectorSeqs.CHUNK_SIZE);
+            assertThat(Util.chunkSeq(sut).first()).isInstanceOf(IntChunk.class);
+            assertThat(VectorSeqs.intSeq(new int[0])).isEmpty();
+        }
+
+        @Test
+        void sumMinAndMaxOfPrimitiveAndBoxedSeqs() {
+            var boxed = ISeq.seq(Arrays.stream(INTS).boxed().collect(Collectors.toList()));
+            for (var seq : new ISeq[]{VectorSeqs.intSeq(INTS), boxed, boxed.map(x -> x), VectorSeqs.intSeq(INTS).drop(5)}) {
+                @SuppressWarnings("unchecked")
+                ISeq<Integer> sut = seq;
+                assertThat(VectorSeqs.sumInts(sut)).isEqualTo(sut.reduce(0, Integer::sum));
+                assertThat(VectorSeqs.minInts(sut)).isEqualTo(sut.min(Integer::compare));
+                assertThat(VectorSeqs.maxInts(sut)).isEqualTo(sut.max(Integer::compare));
+            }
+            assertThat(VectorSeqs.minInts(ISeq.of())).isEqualTo(Optional.empty());
+            assertThat(VectorSeqs.sumInts(ISeq.of())).isZero();
+        }
+
+        @Test
+        void filterIntsIsLazyAndAgreesWithFilter() {
+            var actual = VectorSeqs.filterInts(VectorSeqs.intSeq(INTS), Comparison.GT, 900);
+
+            assertThat(actual.isRealized()).isFalse();
+            assertThat(actual).containsExactlyElementsOf(VectorSeqs.intSeq(INTS).filter(x -> x > 900));
+            assertThat(VectorSeqs.filterInts(ISeq.range(0, 100), Comparison.LT, 3)).containsExactly(0, 1, 2);
+            assertThat(VectorSeqs.filterInts(ISeq.range(0, 100), Comparison.LT, -3)).isEmpty();
+        }
+    }
+
+    @Nested
+    class Doubles {
+
+        @Test
+        void sumMinMaxAndFilter() {
+            var doubles = new double[]{1.0, -2.5, 8.0, 0.5, 3.0};
+            var sut = VectorSeqs.doubleSeq(doubles);
+
+            assertThat(VectorSeqs.sumDoubles(sut)).isEqualTo(10.0);
+            assertThat(VectorSeqs.minDoubles(sut)).contains(-2.5);
+            assertThat(VectorSeqs.maxDoubles(ISeq.of(1.0, 9.0, 2.0))).contains(9.0);
+            assertThat(VectorSeqs.filterDoubles(sut, Comparison.GE, 1.0)).containsExactly(1.0, 8.0, 3.0);
+            assertThat(VectorSeqs.doubleSeq(new double[0])).isEmpty();
+        }
+
+        @Test
+        void minAndMaxPropagateNaNLikeMathMinAndMax() {
+            var doubles = new double[]{1.0, Double.NaN, -3.0};
+
+            for (var sut : List.of(VectorSeqs.doubleSeq(doubles), ISeq.of(1.0, Double.NaN, -3.0), ISeq.of(1.0, Double.NaN, -3.0).map(x -> x))) {
+                assertThat(VectorSeqs.minDoubles(sut)).contains(Double.NaN);
+                assertThat(VectorSeqs.maxDoubles(sut)).contains(Double.NaN);
+            }
+            assertThat(VectorSeqs.minDoubles(ISeq.of(0.0, -0.0))).contains(-0.0);
+            assertThat(VectorSeqs.maxDoubles(ISeq.of(-0.0, 0.0))).contains(0.0);
+            assertThat(VectorSeqs.minDoubles(VectorSeqs.doubleSeq(new double[]{0.0, -0.0}))).contains(-0.0);
+        }
+    }
+
+    @Nested
+    class Chars {
+
+        private final String text = "the quick brown fox jumps over the lazy dog ".repeat(100) + "!";
+
+        @Test
+        void indexOfSearchesStringSeqsInPlace() {
+            var sut = ISeq.seq(text).drop(10);
+
+            assertThat(VectorSeqs.indexOf(sut, 'b')).isEqualTo(0);
+            assertThat(VectorSeqs.indexOf(sut, '!')).isEqualTo(text.length() - 11);
+            assertThat(VectorSeqs.indexOf(sut, 'X')).isEqualTo(-1);
+            assertThat(VectorSeqs.countChars(sut, 'o')).isEqualTo(400);
+        }
+
+        @Test
+        void indexOfSearchesChunkedAndGenericSeqs() {
+            var chunked = ISeq.stringSeq(text).filterChars(c -> c != ' ');
+            var stripped = text.replace(" ", "");
+            var generic = ISeq.seq(stripped.chars().mapToObj(c -> (char) c).collect(Collectors.toList())).map(x -> x);
+
+            for (var sut : new ISeq[]{chunked, generic, Util.chunkChannelSeq(Channels.newChannel(new ByteArrayInputStream(stripped.getBytes(StandardCharsets.UTF_8))), StandardCharsets.UTF_8)}) {
+                @SuppressWarnings("unchecked")
+                ISeq<Character> chars = sut;
+                assertThat(VectorSeqs.indexOf(chars, '!')).isEqualTo(stripped.indexOf('!'));
+                assertThat(VectorSeqs.indexOf(chars, 'z')).isEqualTo(stripped.indexOf('z'));
+                assertThat(VectorSeqs.countChars(chars, 'o')).isEqualTo(400);
+            }
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.github.nylle.javaseq;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
@@ -21,6 +22,8 @@ import java.util.stream.StreamSupport;
 
 public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
 
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
     public T second() {
         return nth(1, (T)null);
     }
@@ -267,7 +270,7 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
     }
 
     public ISeq<T> distinct() {
-        return step(this, new HashSet<>());
+        return step(this, PersistentHashSet.empty());
     }
 
     private static <T> ISeq<T> step(final ISeq<T> seq, final Set<T> seen) {
@@ -286,10 +289,53 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
         return sorted((o1, o2) -> ((Comparable<T>) o1).compareTo(o2));
     }
 
+    @SuppressWarnings("unchecked")
     public ISeq<T> sorted(Comparator<? super T> comp) {
-        var result = new ArrayList<>(this);
-        result.sort(comp);
-        return ISeq.seq(result);
+        var result = (T[]) toArray();
+        if (result.length < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(result, comp);
+        } else {
+            Arrays.parallelSort(result, comp);
+        }
+        return Util.arraySeq(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ISeq<T> lazySorted() {
+        return lazySorted((o1, o2) -> ((Comparable<T>) o1).compareTo(o2));
+    }
+
+    public ISeq<T> lazySorted(Comparator<? super T> comp) {
+        return ISeq.lazySeq(() -> new LazyHeapSort<T>(toArray(), comp).seq());
+    }
+
+    public ISeq<T> externalSorted(Comparator<? super T> comp, Codec<T> codec, int memoryBudget) {
+        var sort = new ExternalSort<>(comp, codec, memoryBudget);
+        var iterator = iterator();
+        return ISeq.lazySeq(() -> sort.sort(iterator));
+    }
+
+    @SuppressWarnings("unchecked")
+    public ISeq<T> topK(int k) {
+        return topK(k, (o1, o2) -> ((Comparable<T>) o1).compareTo(o2));
+    }
+
+    public ISeq<T> topK(int k, Comparator<? super T> comp) {
+        if (k < 1) {
+            return ISeq.of();
+        }
+        var heap = new BoundedHeap<T, T>(k, comp);
+        run(x -> heap.offer(x, x));
+        return heap.drain();
+    }
+
+    public <C extends Comparable<? super C>> ISeq<T> topKBy(int k, Function<? super T, C> f) {
+        if (k < 1) {
+            return ISeq.of();
+        }
+        var heap = new BoundedHeap<T, C>(k, Comparator.naturalOrder());
+        run(x -> heap.offer(x, f.apply(x)));
+        return heap.drain();
     }
 
     public ISeq<T> reverse() {
@@ -313,6 +359,104 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
         return isEmpty() || every(pred.negate());
     }
 
+    public int indexOfSubseq(Iterable<?> coll) {
+        var pattern = ISeq.seq(coll).toArray();
+        if (pattern.length == 0) {
+            return 0;
+        }
+        var fallback = prefixTable(pattern);
+        var needle = needle(pattern);
+        var horspool = needle == null ? null : new Horspool(needle);
+        var matched = 0;
+        var i = 0;
+        ISeq<T> seq = this;
+        while (!seq.isEmpty()) {
+            if (seq instanceof LazySeq<T> lazy) {
+                seq = lazy.seq();
+            } else if (horspool != null && seq instanceof ChunkedCons<T> chunked && chunked.chunkedFirst() instanceof StringChunk chunk) {
+                var slice = chunk.slice();
+                var n = slice.length();
+                var m = pattern.length;
+                if (matched > 0) {
+                    var boundary = needle.substring(0, matched) + slice.subSequence(0, Math.min(n, m - 1));
+                    var k = horspool.indexIn(boundary, 0, boundary.length());
+                    if (k >= 0) {
+                        return i - matched + k;
+                    }
+                }
+                var k = horspool.indexIn(slice.source(), slice.offset(), slice.offset() + n);
+                if (k >= 0) {
+                    return i + k - slice.offset();
+                }
+                if (n >= m - 1) {
+                    matched = 0;
+                }
+                for (int j = Math.max(0, n - (m - 1)); j < n; j++) {
+                    matched = advance(pattern, fallback, matched, slice.charAt(j));
+                }
+                i += n;
+                seq = chunked.chunkedMore();
+            } else if (seq instanceof ChunkedCons<T> chunked) {
+                var chunk = chunked.chunkedFirst();
+                for (int j = 0; j < chunk.count(); j++, i++) {
+                    matched = advance(pattern, fallback, matched, chunk.nth(j));
+                    if (matched == pattern.length) {
+                        return i - pattern.length + 1;
+                    }
+                }
+                seq = chunked.chunkedMore();
+            } else {
+                matched = advance(pattern, fallback, matched, seq.first());
+                if (matched == pattern.length) {
+                    return i - pattern.length + 1;
+                }
+                i++;
+                seq = seq.rest();
+            }
+        }
+        return -1;
+    }
+
+    public boolean containsSubseq(Iterable<?> coll) {
+        return indexOfSubseq(coll) >= 0;
+    }
+
+    private static String needle(Object[] pattern) {
+        var result = new StringBuilder(pattern.length);
+        for (var x : pattern) {
+            if (!(x instanceof Character)) {
+                return null;
+            }
+            result.append((char) (Character) x);
+        }
+        return result.toString();
+    }
+
+    private static int[] prefixTable(Object[] pattern) {
+        var result = new int[pattern.length];
+        var k = 0;
+        for (int i = 1; i < pattern.length; i++) {
+            while (k > 0 && !Objects.equals(pattern[i], pattern[k])) {
+                k = result[k - 1];
+            }
+            if (Objects.equals(pattern[i], pattern[k])) {
+                k++;
+            }
+            result[i] = k;
+        }
+        return result;
+    }
+
+    private static int advance(Object[] pattern, int[] fallback, int matched, Object x) {
+        if (matched == pattern.length) {
+            matched = fallback[matched - 1];
+        }
+        while (matched > 0 && !Objects.equals(x, pattern[matched])) {
+            matched = fallback[matched - 1];
+        }
+        return Objects.equals(x, pattern[matched]) ? matched + 1 : matched;
+    }
+
     public Optional<T> max(Comparator<? super T> comp) {
         if (isEmpty()) {
             return Optional.empty();
@@ -413,10 +557,59 @@ public abstract class ASeq<T> extends AList<T> implements ISeq<T> {
         return List.copyOf(this);
     }
 
+    @SuppressWarnings("unchecked")
+    public ISeq<T> compact() {
+        var acc = new ArrayList<T>();
+        ISeq<T> seq = this;
+        while (seq.isRealized() && !seq.isEmpty() && !(seq instanceof IndexedSeq<T>) && !(seq instanceof StringSeq)) {
+            acc.add(seq.first());
+            seq = seq.rest();
+        }
+        if (acc.isEmpty()) {
+            return this;
+        }
+        var array = (T[]) acc.toArray();
+        if (seq.isRealized() && seq.isEmpty()) {
+            return Util.arraySeq(array);
+        }
+        var result = seq;
+        for (int i = (array.length - 1) / Util.CHUNK_SIZE * Util.CHUNK_SIZE; i >= 0; i -= Util.CHUNK_SIZE) {
+            result = new ChunkedCons<>(new ArrayChunk<>(array, i, Math.min(i + Util.CHUNK_SIZE, array.length)), result);
+        }
+        return result;
+    }
+
+    public <R> ISeq<R> softCached(Function<? super ISeq<T>, ? extends ISeq<R>> xform) {
+        return SoftChunk.seq(this, xform);
+    }
+
     public ISeq<Map.Entry<T, Integer>> frequencies() {
-        var acc = new HashMap<T, Integer>();
-        this.run(x -> acc.compute(x, (k, v) -> (v == null) ? 1 : v + 1));
-        return ISeq.seq(acc);
+        var acc = PersistentHashMap.<T, int[]>empty().asTransient();
+        this.run(x -> {
+            var counter = acc.get(x);
+            if (counter == null) {
+                acc.assoc(x, new int[]{1});
+            } else {
+                counter[0]++;
+            }
+        });
+        return ISeq.seq(acc.persistent()).map(x -> new AbstractMap.SimpleImmutableEntry<>(x.getKey(), x.getValue()[0]));
+    }
+
+    public <K> Map<K, ISeq<T>> groupBy(Function<? super T, ? extends K> f) {
+        var acc = PersistentHashMap.<K, TransientArraySeq<T>>empty().asTransient();
+        this.run(x -> {
+            var key = f.apply(x);
+            var group = acc.get(key);
+            if (group == null) {
+                group = Util.transientArraySeq();
+                acc.assoc(key, group);
+            }
+            group.conj(x);
+        });
+        var result = PersistentHashMap.<K, ISeq<T>>empty().asTransient();
+        acc.persistent().forEach((k, v) -> result.assoc(k, v.persistent()));
+        return result.persistent();
     }
 
     // java.lang.Iterable
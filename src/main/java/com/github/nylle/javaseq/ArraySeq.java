@@ -1,30 +1,18 @@
 package com.github.nylle.javaseq;
 
 import java.util.Arrays;
-import java.util.Objects;
-import java.util.function.BiFunction;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
 
-public class ArraySeq<T> extends ASeq<T> implements ISeq<T> {
+public class ArraySeq<T> extends IndexedSeq<T> {
 
     private final T[] array;
-    private final int index;
-    private final int end;
-    private final int count;
 
     @SafeVarargs
     public ArraySeq(T... items) {
-        if (items == null || items.length == 0) {
-            throw new IllegalArgumentException("items is null or empty");
-        }
-        this.array = items;
-        this.index = 0;
-        this.end = items.length;
-        this.count = items.length;
+        this(checked(items), 0, items.length);
     }
 
     ArraySeq(T[] array, int index, int end) {
+        super(index, end);
         if (array == null || array.length == 0) {
             throw new IllegalArgumentException("array is null or empty");
         }
@@ -38,131 +26,23 @@ public class ArraySeq<T> extends ASeq<T> implements ISeq<T> {
             throw new IllegalArgumentException("end " + end + " must be greater than index " + index);
         }
         this.array = array;
-        this.index = index;
-        this.end = end;
-        this.count = end - index;
-    }
-
-    @Override
-    public T first() {
-        return array[index];
-    }
-
-    public T last() {
-        if (count < 1) {
-            return null;
-        }
-        return array[end-1];
-    }
-
-    @Override
-    public ISeq<T> rest() {
-        if (count > 1) {
-            return new ArraySeq<>(array, index + 1, end);
-        }
-        return ISeq.of();
-    }
-
-    @Override
-    public boolean isRealized() {
-        return true;
-    }
-
-    @Override
-    public ISeq<T> take(long n) {
-        if(n >= count) {
-            return this;
-        }
-        if (n > 0) {
-            return new ArraySeq<T>(array, index, (int) n + index);
-        }
-        return ISeq.of();
-    }
-
-    @Override
-    public ISeq<T> drop(long n) {
-        if (n >= count) {
-            return ISeq.of();
-        }
-        if (n > 0) {
-            return new ArraySeq<T>(array, (int) n + index, end);
-        }
-        return this;
-    }
-
-    @Override
-    public ISeq<T> takeWhile(Predicate<? super T> pred) {
-        var newEnd = index;
-        for (int i = index; i < end; i++) {
-            if (!pred.test(array[i])) {
-                break;
-            }
-            newEnd++;
-        }
-        if (newEnd > index) {
-            return new ArraySeq<>(array, index, newEnd);
-        }
-        return ISeq.of();
-    }
-
-    @Override
-    public ISeq<T> dropWhile(Predicate<? super T> pred) {
-        var newIndex = index;
-        for (int i = index; i < end; i++) {
-            if (!pred.test(array[i])) {
-                break;
-            }
-            newIndex++;
-        }
-        if (newIndex == index) {
-            return this;
-        }
-        if (newIndex < end) {
-            return new ArraySeq<>(array, newIndex, end);
-        }
-        return ISeq.of();
     }
 
-    @Override
-    public <U> U reduce(U val, BiFunction<U, ? super T, U> f) {
-        var result = val;
-        for (int i = index; i < end; i++) {
-            result = f.apply(result, array[i]);
-        }
-        return result;
-    }
-
-    @Override
-    public boolean some(Predicate<? super T> pred) {
-        for (int i = index; i < end; i++) {
-            if (pred.test(array[i])) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    @Override
-    public boolean every(Predicate<? super T> pred) {
-        for (int i = index; i < end; i++) {
-            if (!pred.test(array[i])) {
-                return false;
-            }
+    private static <T> T[] checked(T[] items) {
+        if (items == null || items.length == 0) {
+            throw new IllegalArgumentException("items is null or empty");
         }
-        return true;
+        return items;
     }
 
     @Override
-    protected T nth(int index, Supplier<T> notFound) {
-        if (index < 0 || index >= count) {
-            return notFound.get();
-        }
-        return array[index + this.index];
+    T itemAt(int i) {
+        return array[i];
     }
 
     @Override
-    public int count() {
-        return count;
+    ISeq<T> slice(int index, int end) {
+        return new ArraySeq<>(array, index, end);
     }
 
     @Override
@@ -171,32 +51,4 @@ public class ArraySeq<T> extends ASeq<T> implements ISeq<T> {
         System.arraycopy(this.array, index, result, 0, count);
         return result;
     }
-
-    @Override
-    public int indexOf(Object o) {
-        for (int i = index; i < end; i++) {
-            if (Objects.equals(o, array[i])) {
-                return i - index;
-            }
-        }
-        return -1;
-    }
-
-    @Override
-    public int lastIndexOf(Object o) {
-        if (o == null) {
-            for (int i = end - 1; i >= index; i--) {
-                if (array[i] == null) {
-                    return i - index;
-                }
-            }
-        } else {
-            for (int i = end - 1; i >= index; i--) {
-                if (o.equals(array[i])) {
-                    return i - index;
-                }
-            }
-        }
-        return -1;
-    }
 }
@@ -0,0 +1,112 @@
+package com.github.nylle.javaseq;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Keeps the {@code capacity} least items offered to it according to a comparator of their keys. Items with equal keys
+ * are kept in the order they were offered, so that draining the heap yields the same items as a stable sort followed
+ * by taking the first {@code capacity} items.
+ */
+class BoundedHeap<T, K> {
+
+    private final int capacity;
+    private final Comparator<? super K> comp;
+
+    private Object[] items;
+    private Object[] keys;
+    private long[] order;
+    private int size;
+    private long counter;
+
+    BoundedHeap(int capacity, Comparator<? super K> comp) {
+        this.capacity = capacity;
+        this.comp = comp;
+        int initial = Math.max(1, Math.min(capacity, 16));
+        this.items = new Object[initial];
+        this.keys = new Object[initial];
+        this.order = new long[initial];
+    }
+
+    void offer(T item, K key) {
+        long i = counter++;
+        if (size < capacity) {
+            if (size == items.length) {
+                int length = (int) Math.min(capacity, 2L * size);
+                items = Arrays.copyOf(items, length);
+                keys = Arrays.copyOf(keys, length);
+                order = Arrays.copyOf(order, length);
+            }
+            set(size, item, key, i);
+            siftUp(size++);
+        } else if (comp.compare(key, key(0)) < 0) {
+            set(0, item, key, i);
+            siftDown(0);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    ISeq<T> drain() {
+        var result = (T[]) new Object[size];
+        while (size > 0) {
+            result[size - 1] = (T) items[0];
+            size--;
+            set(0, items[size], keys[size], order[size]);
+            items[size] = null;
+            keys[size] = null;
+            siftDown(0);
+        }
+        return Util.arraySeq(result);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!greater(i, parent)) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int right = left + 1;
+            int largest = right < size && greater(right, left) ? right : left;
+            if (!greater(largest, i)) {
+                break;
+            }
+            swap(i, largest);
+            i = largest;
+        }
+    }
+
+    private boolean greater(int a, int b) {
+        int result = comp.compare(key(a), key(b));
+        return result > 0 || result == 0 && order[a] > order[b];
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int i) {
+        return (K) keys[i];
+    }
+
+    private void set(int i, Object item, Object key, long n) {
+        items[i] = item;
+        keys[i] = key;
+        order[i] = n;
+    }
+
+    private void swap(int a, int b) {
+        var item = items[a];
+        var key = keys[a];
+        var n = order[a];
+        set(a, items[b], keys[b], order[b]);
+        set(b, item, key, n);
+    }
+}
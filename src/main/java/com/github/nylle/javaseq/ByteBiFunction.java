@@ -0,0 +1,20 @@
+package com.github.nylle.javaseq;
+
+/**
+ * A function of an accumulated value and one {@code byte}, the primitive specialization of
+ * {@link java.util.function.BiFunction} used by {@link ByteSeq#reduceBytes}.
+ *
+ * @param <U> the type of the accumulated value
+ */
+@FunctionalInterface
+public interface ByteBiFunction<U> {
+
+    /**
+     * Applies this function to {@code acc} and {@code b}.
+     *
+     * @param acc the accumulated value
+     * @param b   the next byte
+     * @return the new accumulated value
+     */
+    U apply(U acc, byte b);
+}
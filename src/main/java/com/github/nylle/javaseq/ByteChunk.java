@@ -0,0 +1,47 @@
+package com.github.nylle.javaseq;
+
+import java.nio.ByteBuffer;
+
+class ByteChunk implements IChunk<Byte> {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int end;
+
+    ByteChunk(ByteBuffer buffer, int offset, int end) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    @Override
+    public Byte nth(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return buffer.get(offset + n);
+    }
+
+    @Override
+    public IChunk<Byte> dropFirst() {
+        return new ByteChunk(buffer, offset + 1, end);
+    }
+
+    @Override
+    public IChunk<Byte> dropLast(int n) {
+        return new ByteChunk(buffer, offset, end - n);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    ByteChunk drop(int n) {
+        return new ByteChunk(buffer, offset + n, end);
+    }
+
+    ByteBuffer buffer() {
+        return buffer.slice(offset, end - offset).asReadOnlyBuffer();
+    }
+}
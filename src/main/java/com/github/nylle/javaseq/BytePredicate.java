@@ -0,0 +1,17 @@
+package com.github.nylle.javaseq;
+
+/**
+ * A predicate of one {@code byte}, the primitive specialization of {@link java.util.function.Predicate} used by the
+ * unboxed operations of {@link ByteSeq}.
+ */
+@FunctionalInterface
+public interface BytePredicate {
+
+    /**
+     * Evaluates this predicate on {@code b}.
+     *
+     * @param b the byte to test
+     * @return true if b matches the predicate, otherwise false
+     */
+    boolean test(byte b);
+}
@@ -0,0 +1,302 @@
+package com.github.nylle.javaseq;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A seq of the bytes in a range of a heap or direct {@link ByteBuffer}. Bytes are read with absolute gets, so the
+ * position of the buffer is never used; {@link #take} and {@link #drop} return views of the same buffer.
+ */
+public class ByteSeq extends ASeq<Byte> implements ISeq<Byte> {
+
+    private static final ByteSeq EMPTY = new ByteSeq();
+
+    private final ByteBuffer buffer;
+    private final int index;
+    private final int end;
+    private final int count;
+
+    ByteSeq(ByteBuffer buffer, int index, int end) {
+        if (buffer == null || buffer.limit() == 0) {
+            throw new IllegalArgumentException("buffer is null or empty");
+        }
+        if (index >= buffer.limit()) {
+            throw new IllegalArgumentException("index " + index + " is out of range for buffer of size " + buffer.limit());
+        }
+        if (end > buffer.limit()) {
+            throw new IllegalArgumentException("end " + end + " is out of range for buffer of size " + buffer.limit());
+        }
+        if (end <= index) {
+            throw new IllegalArgumentException("end " + end + " must be greater than index " + index);
+        }
+        this.buffer = buffer;
+        this.index = index;
+        this.end = end;
+        this.count = end - index;
+    }
+
+    private ByteSeq() {
+        this.buffer = ByteBuffer.allocate(0);
+        this.index = 0;
+        this.end = 0;
+        this.count = 0;
+    }
+
+    static ByteSeq empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public Byte first() {
+        return count > 0 ? buffer.get(index) : null;
+    }
+
+    @Override
+    public Byte last() {
+        return count > 0 ? buffer.get(end - 1) : null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public ISeq<Byte> rest() {
+        if (count > 1) {
+            return new ByteSeq(buffer, index + 1, end);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public boolean isRealized() {
+        return true;
+    }
+
+    @Override
+    public ISeq<Byte> take(long n) {
+        if (n >= count) {
+            return this;
+        }
+        if (n > 0) {
+            return new ByteSeq(buffer, index, (int) n + index);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public ISeq<Byte> drop(long n) {
+        if (n >= count) {
+            return ISeq.of();
+        }
+        if (n > 0) {
+            return new ByteSeq(buffer, (int) n + index, end);
+        }
+        return this;
+    }
+
+    @Override
+    public ISeq<Byte> takeWhile(Predicate<? super Byte> pred) {
+        var newEnd = index;
+        for (int i = index; i < end; i++) {
+            if (!pred.test(buffer.get(i))) {
+                break;
+            }
+            newEnd++;
+        }
+        if (newEnd > index) {
+            return new ByteSeq(buffer, index, newEnd);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public ISeq<Byte> dropWhile(Predicate<? super Byte> pred) {
+        var newIndex = index;
+        for (int i = index; i < end; i++) {
+            if (!pred.test(buffer.get(i))) {
+                break;
+            }
+            newIndex++;
+        }
+        if (newIndex == index) {
+            return this;
+        }
+        if (newIndex < end) {
+            return new ByteSeq(buffer, newIndex, end);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public <U> U reduce(U val, BiFunction<U, ? super Byte, U> f) {
+        var result = val;
+        for (int i = index; i < end; i++) {
+            result = f.apply(result, buffer.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean some(Predicate<? super Byte> pred) {
+        for (int i = index; i < end; i++) {
+            if (pred.test(buffer.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean every(Predicate<? super Byte> pred) {
+        for (int i = index; i < end; i++) {
+            if (!pred.test(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Byte nth(int i, Supplier<Byte> notFound) {
+        if (i < 0 || i >= count) {
+            return notFound.get();
+        }
+        return buffer.get(i + index);
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Byte) {
+            return indexOf((byte) (Byte) o);
+        }
+        return super.indexOf(o);
+    }
+
+    public byte firstByte() {
+        return nthByte(0);
+    }
+
+    public byte nthByte(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + count);
+        }
+        return buffer.get(i + index);
+    }
+
+    public ISeq<Byte> filterBytes(BytePredicate pred) {
+        return filterBytes(index, pred);
+    }
+
+    private ISeq<Byte> filterBytes(int from, BytePredicate pred) {
+        return ISeq.lazySeq(() -> {
+            var i = from;
+            while (i < end) {
+                var chunkEnd = Math.min(end, i + Util.CHUNK_SIZE);
+                var acc = new byte[chunkEnd - i];
+                var n = 0;
+                for (; i < chunkEnd; i++) {
+                    var b = buffer.get(i);
+                    if (pred.test(b)) {
+                        acc[n++] = b;
+                    }
+                }
+                if (n > 0) {
+                    return new ChunkedCons<>(new ByteChunk(ByteBuffer.wrap(acc), 0, n), i < end ? filterBytes(i, pred) : ISeq.of());
+                }
+            }
+            return ISeq.<Byte>of();
+        });
+    }
+
+    public ISeq<Byte> mapBytes(ByteUnaryOperator f) {
+        return mapBytes(index, f);
+    }
+
+    private ISeq<Byte> mapBytes(int from, ByteUnaryOperator f) {
+        return ISeq.lazySeq(() -> {
+            if (from >= end) {
+                return ISeq.<Byte>of();
+            }
+            var chunkEnd = Math.min(end, from + Util.CHUNK_SIZE);
+            var acc = new byte[chunkEnd - from];
+            for (int i = from; i < chunkEnd; i++) {
+                acc[i - from] = f.apply(buffer.get(i));
+            }
+            return new ChunkedCons<>(new ByteChunk(ByteBuffer.wrap(acc), 0, acc.length), chunkEnd < end ? mapBytes(chunkEnd, f) : ISeq.of());
+        });
+    }
+
+    public <U> U reduceBytes(U val, ByteBiFunction<U> f) {
+        var result = val;
+        for (int i = index; i < end; i++) {
+            result = f.apply(result, buffer.get(i));
+        }
+        return result;
+    }
+
+    public boolean someByte(BytePredicate pred) {
+        for (int i = index; i < end; i++) {
+            if (pred.test(buffer.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean everyByte(BytePredicate pred) {
+        for (int i = index; i < end; i++) {
+            if (!pred.test(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int indexOf(byte b) {
+        for (int i = index; i < end; i++) {
+            if (buffer.get(i) == b) {
+                return i - index;
+            }
+        }
+        return -1;
+    }
+
+    public int countBytes(byte b) {
+        var result = 0;
+        for (int i = index; i < end; i++) {
+            if (buffer.get(i) == b) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    public int countBytes(BytePredicate pred) {
+        var result = 0;
+        for (int i = index; i < end; i++) {
+            if (pred.test(buffer.get(i))) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    public ByteBuffer toByteBuffer() {
+        return buffer.slice(index, count).asReadOnlyBuffer();
+    }
+
+    public byte[] toByteArray() {
+        var result = new byte[count];
+        buffer.get(index, result);
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.nylle.javaseq;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A channel reading the bytes of a seq. Bytes of {@link ByteSeq}s and {@link ByteChunk}s are copied in bulk; bytes of
+ * any other seq are copied one at a time. Realizes the seq only as far as it is read.
+ */
+class ByteSeqChannel implements ReadableByteChannel {
+
+    private ISeq<Byte> seq;
+    private boolean open = true;
+
+    ByteSeqChannel(ISeq<Byte> seq) {
+        this.seq = seq;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        var n = 0;
+        while (dst.hasRemaining()) {
+            while (seq instanceof LazySeq<Byte> lazy) {
+                seq = lazy.seq();
+            }
+            if (seq.isEmpty()) {
+                return n == 0 ? -1 : n;
+            }
+            if (seq instanceof ByteSeq bytes) {
+                var k = Math.min(dst.remaining(), bytes.count());
+                dst.put(bytes.toByteBuffer().limit(k));
+                seq = bytes.drop(k);
+                n += k;
+            } else if (seq instanceof ChunkedCons<Byte> chunked && chunked.chunkedFirst() instanceof ByteChunk chunk) {
+                var k = Math.min(dst.remaining(), chunk.count());
+                dst.put(chunk.buffer().limit(k));
+                seq = k == chunk.count() ? chunked.chunkedMore() : new ChunkedCons<>(chunk.drop(k), chunked.chunkedMore());
+                n += k;
+            } else {
+                dst.put(seq.first());
+                seq = seq.rest();
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+        seq = ISeq.of();
+    }
+}
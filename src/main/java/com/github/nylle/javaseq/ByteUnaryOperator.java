@@ -0,0 +1,17 @@
+package com.github.nylle.javaseq;
+
+/**
+ * An operation on one {@code byte} that produces a {@code byte}, the primitive specialization of
+ * {@link java.util.function.UnaryOperator} used by the unboxed operations of {@link ByteSeq}.
+ */
+@FunctionalInterface
+public interface ByteUnaryOperator {
+
+    /**
+     * Applies this operator to {@code b}.
+     *
+     * @param b the byte to map
+     * @return the mapped byte
+     */
+    byte apply(byte b);
+}
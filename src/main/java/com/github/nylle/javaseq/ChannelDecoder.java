@@ -0,0 +1,64 @@
+package com.github.nylle.javaseq;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Decodes the bytes of a channel into consecutive buffers of chars. Bytes are read into one direct buffer and decoded
+ * with one decoder for the whole channel, so characters spanning two reads are decoded correctly. Malformed input and
+ * unmappable characters are replaced with the charset's replacement.
+ */
+class ChannelDecoder {
+
+    private final ReadableByteChannel channel;
+    private final CharsetDecoder decoder;
+    private final ByteBuffer bytes;
+    private final int capacity;
+
+    private static final int MIN_CAPACITY = 16;
+    private boolean endOfInput;
+    private boolean flushing;
+    private boolean done;
+
+    ChannelDecoder(ReadableByteChannel channel, Charset charset, int capacity) {
+        this.channel = channel;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.capacity = Math.max(capacity, MIN_CAPACITY);
+        this.bytes = ByteBuffer.allocateDirect(this.capacity);
+    }
+
+    /**
+     * Returns a buffer of the next decoded chars, ready to be read, or null if the channel has been fully decoded. Each
+     * call returns a new buffer, which is never modified afterwards.
+     */
+    CharBuffer next() throws IOException {
+        if (done) {
+            return null;
+        }
+        var chars = CharBuffer.allocate(capacity);
+        while (chars.position() == 0 && !done) {
+            if (!flushing) {
+                if (!endOfInput && channel.read(bytes) < 0) {
+                    endOfInput = true;
+                }
+                bytes.flip();
+                var result = decoder.decode(bytes, chars, endOfInput);
+                bytes.compact();
+                if (result.isOverflow() || !endOfInput) {
+                    continue;
+                }
+                flushing = true;
+            }
+            done = decoder.flush(chars).isUnderflow();
+        }
+        chars.flip();
+        return chars.hasRemaining() ? chars : null;
+    }
+}
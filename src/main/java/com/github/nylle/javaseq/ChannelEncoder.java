@@ -0,0 +1,83 @@
+package com.github.nylle.javaseq;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Encodes chars into a channel. Chars are staged in one buffer and encoded with one encoder into one direct buffer,
+ * which is written to the channel whenever it is full, so a surrogate pair split between two writes is encoded
+ * correctly. Malformed input and unmappable characters are replaced with the charset's replacement.
+ * {@link #finish()} must be called to write out what is still buffered; the channel is not closed.
+ */
+class ChannelEncoder {
+
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+
+    private static final int MIN_CAPACITY = 16;
+
+    ChannelEncoder(WritableByteChannel channel, Charset charset, int capacity) {
+        this.channel = channel;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = CharBuffer.allocate(Math.max(capacity, MIN_CAPACITY));
+        this.bytes = ByteBuffer.allocateDirect(Math.max(capacity, MIN_CAPACITY));
+    }
+
+    void write(char c) throws IOException {
+        chars.put(c);
+        if (!chars.hasRemaining()) {
+            encode(false);
+        }
+    }
+
+    void write(CharSequence s) throws IOException {
+        write(s, 0, s.length());
+    }
+
+    void write(CharSequence s, int start, int end) throws IOException {
+        var source = CharBuffer.wrap(s, start, end);
+        while (source.hasRemaining()) {
+            var n = Math.min(chars.remaining(), source.remaining());
+            var limit = source.limit();
+            source.limit(source.position() + n);
+            chars.put(source);
+            source.limit(limit);
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+        }
+    }
+
+    void finish() throws IOException {
+        encode(true);
+        while (encoder.flush(bytes).isOverflow()) {
+            drain();
+        }
+        drain();
+    }
+
+    private void encode(boolean endOfInput) throws IOException {
+        chars.flip();
+        while (encoder.encode(chars, bytes, endOfInput).isOverflow()) {
+            drain();
+        }
+        chars.compact();
+    }
+
+    private void drain() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.nylle.javaseq;
+
+/**
+ * A function of an accumulated value and one {@code char}, the primitive specialization of
+ * {@link java.util.function.BiFunction} used by {@link StringSeq#reduceChars}.
+ *
+ * @param <U> the type of the accumulated value
+ */
+@FunctionalInterface
+public interface CharBiFunction<U> {
+
+    /**
+     * Applies this function to {@code acc} and {@code c}.
+     *
+     * @param acc the accumulated value
+     * @param c   the next char
+     * @return the new accumulated value
+     */
+    U apply(U acc, char c);
+}
@@ -0,0 +1,49 @@
+package com.github.nylle.javaseq;
+
+public class CharChunk implements IChunk<Character> {
+
+    private final char[] array;
+    private final int offset;
+    private final int end;
+
+    CharChunk(char[] array, int offset, int end) {
+        this.array = array;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    @Override
+    public Character nth(int n) {
+        return nthChar(n);
+    }
+
+    public char nthChar(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return array[offset + n];
+    }
+
+    @Override
+    public IChunk<Character> dropFirst() {
+        return new CharChunk(array, offset + 1, end);
+    }
+
+    @Override
+    public IChunk<Character> dropLast(int n) {
+        return new CharChunk(array, offset, end - n);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    public char[] array() {
+        return array;
+    }
+
+    public int offset() {
+        return offset;
+    }
+}
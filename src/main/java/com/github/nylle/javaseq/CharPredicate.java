@@ -0,0 +1,17 @@
+package com.github.nylle.javaseq;
+
+/**
+ * A predicate of one {@code char}, the primitive specialization of {@link java.util.function.Predicate} used by the
+ * unboxed operations of {@link StringSeq}.
+ */
+@FunctionalInterface
+public interface CharPredicate {
+
+    /**
+     * Evaluates this predicate on {@code c}.
+     *
+     * @param c the char to test
+     * @return true if c matches the predicate, otherwise false
+     */
+    boolean test(char c);
+}
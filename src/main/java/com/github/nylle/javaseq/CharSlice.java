@@ -0,0 +1,70 @@
+package com.github.nylle.javaseq;
+
+/**
+ * A read-only view of a range of another {@link CharSequence}, returned by the split operations of {@link StringSeq}.
+ * A slice shares the chars of its source instead of copying them; {@link #toString()} makes the copy when a
+ * {@link String} is needed. Two slices are equal if they contain the same chars.
+ */
+public class CharSlice implements CharSequence {
+
+    private final CharSequence source;
+    private final int offset;
+    private final int length;
+
+    CharSlice(CharSequence source, int offset, int length) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public CharSequence source() {
+        return source;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return source.charAt(offset + index);
+    }
+
+    @Override
+    public CharSlice subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+        }
+        return new CharSlice(source, offset + start, end - start);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof CharSlice && CharSequence.compare(this, (CharSlice) other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        var result = 0;
+        for (int i = offset; i < offset + length; i++) {
+            result = 31 * result + source.charAt(i);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return source.subSequence(offset, offset + length).toString();
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.nylle.javaseq;
+
+/**
+ * An operation on one {@code char} that produces a {@code char}, the primitive specialization of
+ * {@link java.util.function.UnaryOperator} used by the unboxed operations of {@link StringSeq}.
+ */
+@FunctionalInterface
+public interface CharUnaryOperator {
+
+    /**
+     * Applies this operator to {@code c}.
+     *
+     * @param c the char to map
+     * @return the mapped char
+     */
+    char apply(char c);
+}
@@ -0,0 +1,122 @@
+package com.github.nylle.javaseq;
+
+import java.util.ArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the matches of a pattern in a seq of chars, one chunk at a time. Each chunk is searched together with the tail
+ * of the chunks before it that a match could still start in: a match that reached the end of the searched text, or a
+ * failed attempt that ran out of text, is retried once the next chunk has been appended. Before the position where the
+ * search resumes, the text keeps as many chars as the previous chunk had, and at least 32, so look-behinds and boundary
+ * matchers see the chars before it; the search is bounded by a transparent, non-anchoring region, so {@code ^} only
+ * matches at index 0 of the text if that is the start of the seq. Match offsets are relative to the start of the seq.
+ */
+class ChunkMatcher {
+
+    private final Pattern re;
+    private ISeq<Character> seq;
+    private String text = "";
+    private int textOffset;
+    private int chunkStart;
+    private int from;
+    private int lastEmpty = -1;
+    private boolean done;
+    private boolean finished;
+
+    ChunkMatcher(Pattern re, ISeq<Character> seq) {
+        this.re = re;
+        this.seq = seq;
+    }
+
+    /**
+     * Returns the matches that the next chunk(s) completed, or null if all matches have been returned.
+     */
+    MatchSlice[] next() {
+        var matches = new ArrayList<MatchSlice>();
+        while (matches.isEmpty() && !finished) {
+            var chunk = nextChunk();
+            if (chunk == null) {
+                done = true;
+            } else {
+                append(chunk);
+            }
+            search(matches);
+            finished = done;
+        }
+        return matches.isEmpty() ? null : matches.toArray(new MatchSlice[0]);
+    }
+
+    private void search(ArrayList<MatchSlice> matches) {
+        var matcher = matcher().region(from, text.length());
+        var pending = text.length();
+        var found = false;
+        while (matcher.find()) {
+            if (!done && matcher.hitEnd()) {
+                pending = matcher.start();
+                found = true;
+                break;
+            }
+            if (matcher.start() == matcher.end() && textOffset + matcher.start() == lastEmpty) {
+                continue;
+            }
+            matches.add(new MatchSlice(text, -textOffset, matcher));
+            lastEmpty = matcher.start() == matcher.end() ? textOffset + matcher.end() : -1;
+            from = matcher.end();
+        }
+        if (!done && (found || matcher.hitEnd())) {
+            from = firstHittingEnd(from, pending);
+        } else {
+            from = text.length();
+        }
+    }
+
+    private int firstHittingEnd(int start, int end) {
+        var probe = matcher();
+        for (int i = start; i < end; i++) {
+            probe.region(i, text.length()).lookingAt();
+            if (probe.hitEnd()) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private Matcher matcher() {
+        return re.matcher(text).useTransparentBounds(true).useAnchoringBounds(false);
+    }
+
+    private void append(CharSequence chunk) {
+        var keep = Math.max(0, from - Math.max(text.length() - chunkStart, Util.CHUNK_SIZE));
+        text = new StringBuilder(text.length() - keep + chunk.length())
+                .append(text, keep, text.length())
+                .append(chunk)
+                .toString();
+        textOffset += keep;
+        from -= keep;
+        chunkStart = text.length() - chunk.length();
+    }
+
+    private CharSequence nextChunk() {
+        while (seq instanceof LazySeq<Character> lazy) {
+            seq = lazy.seq();
+        }
+        if (seq.isEmpty()) {
+            return null;
+        }
+        if (seq instanceof StringSeq chars) {
+            seq = ISeq.of();
+            return chars.slice();
+        }
+        if (seq instanceof ChunkedCons<Character> chunked && chunked.chunkedFirst() instanceof StringChunk chunk) {
+            seq = chunked.chunkedMore();
+            return chunk.slice();
+        }
+        var chars = new StringBuilder();
+        while (chars.length() < Util.CHUNK_SIZE && !seq.isEmpty()) {
+            chars.append(seq.first().charValue());
+            seq = seq.rest();
+        }
+        return chars;
+    }
+}
@@ -20,6 +20,14 @@ public class ChunkedCons<T> extends ASeq<T> implements ISeq<T> {
         return new ChunkedCons<T>(new ArrayChunk(xs.toArray()), rest);
     }
 
+    IChunk<T> chunkedFirst() {
+        return chunk;
+    }
+
+    ISeq<T> chunkedMore() {
+        return rest;
+    }
+
     @Override
     public T first() {
         return chunk.nth(0);
@@ -0,0 +1,94 @@
+package com.github.nylle.javaseq;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes items to and reads them back from a binary stream. Used by operations that move items out of the heap, such
+ * as {@link ISeq#externalSorted}. An item must be read back with exactly the bytes that were written for it.
+ *
+ * @param <T> the type of items
+ */
+public interface Codec<T> {
+
+    /**
+     * Writes {@code x} to {@code out}.
+     *
+     * @param x   the item to write
+     * @param out the stream to write to
+     * @throws IOException if an I/O error occurs
+     */
+    void write(T x, DataOutput out) throws IOException;
+
+    /**
+     * Reads the next item from {@code in}.
+     *
+     * @param in the stream to read from
+     * @return the item read
+     * @throws IOException if an I/O error occurs
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Returns a codec for non-null strings of any length, encoded as UTF-8.
+     *
+     * @return a codec for strings
+     */
+    static Codec<String> strings() {
+        return new Codec<>() {
+            @Override
+            public void write(String x, DataOutput out) throws IOException {
+                var bytes = x.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                var bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for non-null integers.
+     *
+     * @return a codec for integers
+     */
+    static Codec<Integer> integers() {
+        return new Codec<>() {
+            @Override
+            public void write(Integer x, DataOutput out) throws IOException {
+                out.writeInt(x);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for non-null longs.
+     *
+     * @return a codec for longs
+     */
+    static Codec<Long> longs() {
+        return new Codec<>() {
+            @Override
+            public void write(Long x, DataOutput out) throws IOException {
+                out.writeLong(x);
+            }
+
+            @Override
+            public Long read(DataInput in) throws IOException {
+                return in.readLong();
+            }
+        };
+    }
+}
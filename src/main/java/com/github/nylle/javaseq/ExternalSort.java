@@ -0,0 +1,194 @@
+package com.github.nylle.javaseq;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts a seq that does not fit into memory. Items are read in runs of at most {@code memoryBudget} items, each run is
+ * sorted and written to a temp file with the supplied codec, and the runs are merged lazily. Runs are merged in order
+ * of their creation on ties, which keeps the sort stable. Temp files are deleted once they have been merged, or once
+ * the merge has become unreachable before that.
+ * <p>
+ * Items are consumed through an iterator rather than a seq, so that items of a lazy seq that have been spilled can be
+ * garbage collected while the sort is still reading, as long as nothing else holds on to the head of that seq.
+ */
+class ExternalSort<T> {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final int MAX_FAN_IN = 64;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Comparator<? super T> comp;
+    private final Codec<T> codec;
+    private final int memoryBudget;
+
+    ExternalSort(Comparator<? super T> comp, Codec<T> codec, int memoryBudget) {
+        if (memoryBudget < 1) {
+            throw new IllegalArgumentException("memoryBudget must be greater than 0");
+        }
+        this.comp = comp;
+        this.codec = codec;
+        this.memoryBudget = memoryBudget;
+    }
+
+    @SuppressWarnings("unchecked")
+    ISeq<T> sort(Iterator<? extends T> iterator) {
+        var runs = new ArrayList<Run>();
+        var buffer = (T[]) new Object[Math.min(memoryBudget, 1024)];
+        int n = 0;
+        while (iterator.hasNext()) {
+            if (n == buffer.length) {
+                if (n == memoryBudget) {
+                    runs.add(spill(buffer, n));
+                    n = 0;
+                } else {
+                    buffer = Arrays.copyOf(buffer, (int) Math.min(memoryBudget, 2L * n));
+                }
+            }
+            buffer[n++] = iterator.next();
+        }
+        if (runs.isEmpty()) {
+            Arrays.sort(buffer, 0, n, comp);
+            return n == 0 ? ISeq.of() : new ArraySeq<>(buffer, 0, n);
+        }
+        if (n > 0) {
+            runs.add(spill(buffer, n));
+        }
+        while (runs.size() > MAX_FAN_IN) {
+            var merged = new ArrayList<Run>();
+            for (int i = 0; i < runs.size(); i += MAX_FAN_IN) {
+                merged.add(write(merge(runs.subList(i, Math.min(i + MAX_FAN_IN, runs.size())))));
+            }
+            runs = merged;
+        }
+        return Util.chunkIteratorSeq(merge(runs));
+    }
+
+    private Run spill(T[] buffer, int n) {
+        Arrays.sort(buffer, 0, n, comp);
+        var run = write(Arrays.asList(buffer).subList(0, n).iterator());
+        Arrays.fill(buffer, 0, n, null);
+        return run;
+    }
+
+    private Run write(Iterator<T> items) {
+        try {
+            var path = Files.createTempFile("javaseq-", ".run");
+            long count = 0;
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))) {
+                while (items.hasNext()) {
+                    codec.write(items.next(), out);
+                    count++;
+                }
+            }
+            return new Run(path, count);
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        }
+    }
+
+    private Iterator<T> merge(List<Run> runs) {
+        var queue = new PriorityQueue<RunReader>(runs.size(), (a, b) -> {
+            int result = comp.compare(a.head, b.head);
+            return result != 0 ? result : Integer.compare(a.index, b.index);
+        });
+        var readers = new ArrayList<RunReader>(runs.size());
+        for (int i = 0; i < runs.size(); i++) {
+            var reader = new RunReader(runs.get(i), i);
+            readers.add(reader);
+            if (reader.advance()) {
+                queue.add(reader);
+            }
+        }
+        var iterator = new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return !queue.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                var reader = queue.poll();
+                if (reader == null) {
+                    throw new NoSuchElementException();
+                }
+                var result = reader.head;
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+                return result;
+            }
+        };
+        CLEANER.register(iterator, () -> readers.forEach(RunReader::close));
+        return iterator;
+    }
+
+    private static class Run {
+
+        private final Path path;
+        private final long count;
+
+        Run(Path path, long count) {
+            this.path = path;
+            this.count = count;
+        }
+    }
+
+    private class RunReader {
+
+        private final Run run;
+        private final int index;
+        private DataInputStream in;
+        private long remaining;
+        private T head;
+
+        RunReader(Run run, int index) {
+            this.run = run;
+            this.index = index;
+            this.remaining = run.count;
+        }
+
+        boolean advance() {
+            try {
+                if (remaining == 0) {
+                    head = null;
+                    close();
+                    return false;
+                }
+                if (in == null) {
+                    in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.path), BUFFER_SIZE));
+                }
+                head = codec.read(in);
+                remaining--;
+                return true;
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+        }
+
+        void close() {
+            try {
+                if (in != null) {
+                    in.close();
+                    in = null;
+                }
+                Files.deleteIfExists(run.path);
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+        }
+    }
+}
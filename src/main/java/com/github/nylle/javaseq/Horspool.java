@@ -0,0 +1,47 @@
+package com.github.nylle.javaseq;
+
+import java.util.Arrays;
+
+/**
+ * Searches text for a needle with the Boyer-Moore-Horspool algorithm. The shift table is keyed by the low byte of each
+ * char; chars that share a low byte only shorten each other's shifts, so results stay correct.
+ */
+final class Horspool {
+
+    private final String needle;
+    private final int[] shift = new int[256];
+
+    Horspool(String needle) {
+        var m = needle.length();
+        this.needle = needle;
+        Arrays.fill(shift, m);
+        for (int j = 0; j < m - 1; j++) {
+            shift[needle.charAt(j) & 0xFF] = m - 1 - j;
+        }
+    }
+
+    /**
+     * Returns the index in text of the first occurrence of the needle within {@code [from, to)}, or -1 if there is none.
+     */
+    int indexIn(CharSequence text, int from, int to) {
+        var m = needle.length();
+        var last = needle.charAt(m - 1);
+        for (int i = from; i <= to - m; ) {
+            var c = text.charAt(i + m - 1);
+            if (c == last && matches(text, i, m - 1)) {
+                return i;
+            }
+            i += shift[c & 0xFF];
+        }
+        return -1;
+    }
+
+    private boolean matches(CharSequence text, int i, int length) {
+        for (int j = 0; j < length; j++) {
+            if (text.charAt(i + j) != needle.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.nylle.javaseq;
 
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -79,6 +80,9 @@ public interface ISeq<T> extends List<T> {
 
     /**
      * Coerces {@code coll} to a (possibly empty) lazy seq, if it is not already one. Will not force a lazy collection.
+     * Immutable lists like {@code List.of(...)} are viewed without copying. An {@code ArrayList} and other lists of at
+     * most 1024 items are copied in bulk, unless their spliterator reports {@link java.util.Spliterator#CONCURRENT}.
+     * All other collections are read lazily in chunks.
      *
      * @param coll an iterator to be coerced to a seq
      * @param <T>  the type of items in coll
@@ -88,8 +92,9 @@ public interface ISeq<T> extends List<T> {
         if (coll == null) return Util.nil();
         if (coll instanceof ISeq<T> seq) return seq;
         if (coll instanceof ArrayList<T> arrayList) return Util.arraySeq((T[]) arrayList.toArray());
-        if (coll.getClass().getName().equals("java.util.ImmutableCollections$ListN")) return Util.arraySeq((T[]) ((List<T>)(coll)).toArray());
-        if (coll.getClass().getName().equals("java.util.ImmutableCollections$List12")) return Util.arraySeq((T[]) ((List<T>)(coll)).toArray());
+        if (coll instanceof PersistentArrayList<T> list) return list.seq();
+        if (Util.isImmutableList(coll)) return Util.listSeq((List<T>) coll);
+        if (Util.isBulkCopyable(coll)) return Util.arraySeq((T[]) ((List<T>) coll).toArray());
         return seq(coll.iterator());
     }
 
@@ -108,7 +113,29 @@ public interface ISeq<T> extends List<T> {
     }
 
     /**
-     * Coerces {@code coll} to a (possibly empty) seq. Will not force the {@code Stream}.
+     * Coerces {@code coll} to a (possibly empty) lazy seq that holds at most {@code memoryBudget} realized items on the
+     * heap. Items realized beyond that budget are written to a temp file using supplied {@code codec} and read back
+     * from a memory mapping when accessed. Read back items are cached until memory runs low. The temp file is deleted
+     * once the seq has become unreachable, or when the JVM exits. Will not force the {@code Iterator}.
+     *
+     * @param coll         a collection to be coerced to a seq
+     * @param codec        the codec used to write items to and read them from the temp file
+     * @param memoryBudget the maximum number of items held on the heap permanently
+     * @param <T>          the type of items in the seq
+     * @return a seq of items in coll
+     * @throws IllegalArgumentException if memoryBudget is negative
+     */
+    static <T> ISeq<T> seq(Iterator<T> coll, Codec<T> codec, int memoryBudget) {
+        if (coll != null && coll.hasNext()) {
+            return Util.chunkIteratorSeq(coll, codec, memoryBudget);
+        }
+        return Util.nil();
+    }
+
+    /**
+     * Coerces {@code coll} to a (possibly empty) seq. Will not force the {@code Stream}. Items are pulled from the
+     * stream's spliterator in chunks. If the size of the stream is known, all items are collected into one array when
+     * the first item is accessed; a parallel stream of known size is collected in parallel, keeping its order.
      *
      * @param coll a stream to be coerced to a seq
      * @param <T>  the type of items in the stream
@@ -116,11 +143,64 @@ public interface ISeq<T> extends List<T> {
      */
     static <T> ISeq<T> seq(Stream<T> coll) {
         if (coll != null) {
-            return seq(coll.iterator());
+            var parallel = coll.isParallel();
+            return Util.spliteratorSeq(coll.spliterator(), parallel);
         }
         return Util.nil();
     }
 
+    /**
+     * Coerces {@code coll} to a (possibly empty) seq of bytes, without copying it. The returned seq will contain items
+     * of type {@code Byte}.
+     *
+     * @param coll an array to be coerced to a seq
+     * @return a seq of bytes in coll
+     */
+    static ISeq<Byte> seq(byte[] coll) {
+        if (coll != null && coll.length > 0) {
+            return Util.byteSeq(ByteBuffer.wrap(coll));
+        }
+        return Util.nil();
+    }
+
+    /**
+     * Coerces the remaining bytes of {@code coll} to a (possibly empty) seq of bytes, without copying them. The
+     * position of the buffer is not changed. The returned seq will contain items of type {@code Byte}.
+     *
+     * @param coll a buffer to be coerced to a seq
+     * @return a seq of the remaining bytes in coll
+     */
+    static ISeq<Byte> seq(ByteBuffer coll) {
+        if (coll != null && coll.hasRemaining()) {
+            return Util.byteSeq(coll);
+        }
+        return Util.nil();
+    }
+
+    /**
+     * Returns a (possibly empty) {@link ByteSeq} of the bytes in {@code coll}, without copying them. Unlike
+     * {@link #seq(byte[])}, the result is typed as a {@code ByteSeq}, which offers unboxed operations like
+     * {@link ByteSeq#reduceBytes}, and is a {@code ByteSeq} even if coll is null or empty.
+     *
+     * @param coll an array to be coerced to a seq
+     * @return a byte seq of bytes in coll
+     */
+    static ByteSeq byteSeq(byte[] coll) {
+        return Util.byteSeq(coll == null ? null : ByteBuffer.wrap(coll));
+    }
+
+    /**
+     * Returns a (possibly empty) {@link ByteSeq} of the remaining bytes in {@code coll}, without copying them. The
+     * position of the buffer is not changed. Unlike {@link #seq(ByteBuffer)}, the result is typed as a
+     * {@code ByteSeq}, and is a {@code ByteSeq} even if coll is null or has no remaining bytes.
+     *
+     * @param coll a buffer to be coerced to a seq
+     * @return a byte seq of the remaining bytes in coll
+     */
+    static ByteSeq byteSeq(ByteBuffer coll) {
+        return Util.byteSeq(coll);
+    }
+
     /**
      * Coerces {@code coll} to a (possibly empty) seq. The returned seq will contain items of type {@code Character}.
      *
@@ -167,6 +247,18 @@ public interface ISeq<T> extends List<T> {
         return Util.nil();
     }
 
+    /**
+     * Returns a (possibly empty) {@link StringSeq} of the chars in {@code coll}, without copying them. Unlike
+     * {@link #seq(CharSequence)}, the result is typed as a {@code StringSeq}, which offers unboxed operations like
+     * {@link StringSeq#reduceChars}, and is a {@code StringSeq} even if coll is null or empty.
+     *
+     * @param coll a string to be coerced to a seq
+     * @return a string seq of chars in coll
+     */
+    static StringSeq stringSeq(CharSequence coll) {
+        return Util.stringSeq(coll);
+    }
+
     /**
      * Coerces {@code coll} to a (possibly empty) seq. Will not force a lazy collection. The returned seq will contain
      * items of type {@code Map.Entry}.
@@ -278,14 +370,18 @@ public interface ISeq<T> extends List<T> {
     }
 
     /**
-     * Returns a lazy seq representing the concatenation of the items in {@code coll} and {@code x}.
+     * Returns a seq representing the concatenation of the items in {@code coll} and {@code x}. Unless x is null, the
+     * returned seq is backed by a {@link Rope}, so appending to a rope does not copy its chars.
      *
      * @param coll the CharSequence to concat to
      * @param x    the character to append
-     * @return a lazy seq representing the concatenation of the items in coll and x
+     * @return a seq representing the concatenation of the items in coll and x
      */
     static ISeq<Character> concat(CharSequence coll, Character x) {
-        return concat(seq(coll), ISeq.of(x));
+        if (x == null) {
+            return concat(seq(coll), ISeq.of(x));
+        }
+        return seq(Rope.of(coll).concat(String.valueOf(x)));
     }
 
     /**
@@ -301,17 +397,19 @@ public interface ISeq<T> extends List<T> {
     }
 
     /**
-     * Returns a lazy seq representing the concatenation of the items in the supplied {@code colls}.
+     * Returns a seq representing the concatenation of the items in the supplied {@code colls}. The returned seq is
+     * backed by a {@link Rope} of the colls, so concatenating ropes takes O(log n) time instead of copying their chars. Like
+     * {@link StringBuilder#append(CharSequence)}, a null coll is appended as the four characters {@code "null"}.
      *
      * @param colls the strings to concatenate into a seq
-     * @return a lazy seq representing the concatenation of the items in the supplied colls
+     * @return a seq representing the concatenation of the items in the supplied colls
      */
     static ISeq<Character> concat(CharSequence... colls) {
-        var sb = new StringBuilder();
+        var rope = Rope.of("");
         for (var coll : colls) {
-            sb.append(coll);
+            rope = rope.concat(coll == null ? "null" : coll);
         }
-        return seq(sb.toString());
+        return seq(rope);
     }
 
     // Members
@@ -715,7 +813,8 @@ public interface ISeq<T> extends List<T> {
     ISeq<T> distinct();
 
     /**
-     * Returns a seq of the items of this seq sorted by using compare.
+     * Returns a seq of the items of this seq sorted by using compare. Large seqs are sorted in parallel. The sort is
+     * stable.
      * <p>
      * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
      * resources are exhausted.
@@ -725,7 +824,8 @@ public interface ISeq<T> extends List<T> {
     ISeq<T> sorted();
 
     /**
-     * Returns a seq of the items of this seq sorted by using supplied comparator {@code comp}.
+     * Returns a seq of the items of this seq sorted by using supplied comparator {@code comp}. Large seqs are sorted in
+     * parallel. The sort is stable.
      * <p>
      * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
      * resources are exhausted.
@@ -735,6 +835,94 @@ public interface ISeq<T> extends List<T> {
      */
     ISeq<T> sorted(Comparator<? super T> comp);
 
+    /**
+     * Returns a lazy seq of the items of this seq sorted by using compare. Items are sorted incrementally as they are
+     * accessed, so reading the first {@code k} items costs O(n + k log n) instead of O(n log n). Items that compare
+     * equal keep their order.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized when the first item is accessed. If this seq is infinite, it will
+     * run infinitely or until system resources are exhausted.
+     *
+     * @return a lazy seq of the items of this seq sorted by using compare
+     * @see #sorted()
+     */
+    ISeq<T> lazySorted();
+
+    /**
+     * Returns a lazy seq of the items of this seq sorted by using supplied comparator {@code comp}. Items are sorted
+     * incrementally as they are accessed, so reading the first {@code k} items costs O(n + k log n) instead of
+     * O(n log n). Items that compare equal keep their order.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized when the first item is accessed. If this seq is infinite, it will
+     * run infinitely or until system resources are exhausted.
+     *
+     * @param comp the comparator
+     * @return a lazy seq of the items of this seq sorted by using supplied comparator
+     * @see #sorted(Comparator)
+     */
+    ISeq<T> lazySorted(Comparator<? super T> comp);
+
+    /**
+     * Returns a lazy seq of the items of this seq sorted by using supplied comparator {@code comp}, without holding more
+     * than {@code memoryBudget} items in memory. Runs of at most {@code memoryBudget} items are sorted and written to
+     * temp files using supplied {@code codec}, and the runs are merged as the returned seq is accessed. Temp files are
+     * deleted once they have been merged, or when the JVM exits. Items that compare equal keep their order.
+     * <p>
+     * The returned seq does not hold on to this seq. Items that have been written to a temp file can therefore be
+     * garbage collected while sorting, unless the caller keeps a reference to this seq.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized when the first item is accessed. If this seq is infinite, it will
+     * run infinitely or until disk space is exhausted.
+     *
+     * @param comp         the comparator
+     * @param codec        the codec used to write items to and read them from temp files
+     * @param memoryBudget the maximum number of items held in memory while sorting
+     * @return a lazy seq of the items of this seq sorted by using supplied comparator
+     * @throws IllegalArgumentException if memoryBudget is less than 1
+     * @see #sorted(Comparator)
+     */
+    ISeq<T> externalSorted(Comparator<? super T> comp, Codec<T> codec, int memoryBudget);
+
+    /**
+     * Returns a seq of the first {@code k} items of this seq sorted by using compare, without sorting all items. The
+     * result is equal to {@code sorted().take(k)} but only ever holds {@code k} items in memory.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param k the number of items to return
+     * @return a seq of the first k items of this seq sorted by using compare
+     */
+    ISeq<T> topK(int k);
+
+    /**
+     * Returns a seq of the first {@code k} items of this seq sorted by using supplied comparator {@code comp}, without
+     * sorting all items. The result is equal to {@code sorted(comp).take(k)} but only ever holds {@code k} items in
+     * memory.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param k    the number of items to return
+     * @param comp the comparator
+     * @return a seq of the first k items of this seq sorted by using supplied comparator
+     */
+    ISeq<T> topK(int k, Comparator<? super T> comp);
+
+    /**
+     * Returns a seq of the {@code k} items in this seq for which {@code f} is least, ordered by the result of
+     * {@code f}. Items with equal results keep their order. {@code f} is called once per item.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param k   the number of items to return
+     * @param f   a function returning a key for comparison
+     * @param <C> the type of the keys to be compared
+     * @return a seq of the k items in this seq for which f is least
+     */
+    <C extends Comparable<? super C>> ISeq<T> topKBy(int k, Function<? super T, C> f);
+
     /**
      * Returns a seq of the items of this seq in reversed order.
      * <p>
@@ -787,6 +975,32 @@ public interface ISeq<T> extends List<T> {
      */
     boolean notAny(Predicate<? super T> pred);
 
+    /**
+     * Returns the index of the first occurrence of the items in {@code coll}, in order and next to each other, in this
+     * seq, or -1 if there is no such occurrence. Items are compared with {@link Object#equals}. The seq is walked once,
+     * a chunk at a time where possible, and never backtracks, so matches spanning chunk boundaries are found in a
+     * single pass. If coll consists of characters, chunks of chars read from a string or channel are searched with
+     * Boyer-Moore-Horspool instead of item by item. An empty coll occurs at index 0.
+     * <p>
+     * <b>Caution:</b> The seq may be fully realized. If this seq is infinite and coll does not occur, it will run
+     * infinitely or until system resources are exhausted.
+     *
+     * @param coll the items to search for
+     * @return the index of the first occurrence of coll in this seq, or -1
+     */
+    int indexOfSubseq(Iterable<?> coll);
+
+    /**
+     * Returns true if the items in {@code coll} occur in order and next to each other in this seq, otherwise false.
+     * <p>
+     * <b>Caution:</b> The seq may be fully realized. If this seq is infinite and coll does not occur, it will run
+     * infinitely or until system resources are exhausted.
+     *
+     * @param coll the items to search for
+     * @return true if coll occurs in this seq
+     */
+    boolean containsSubseq(Iterable<?> coll);
+
     /**
      * Returns the item in this seq for which {@code comp} determines is greatest. If there are multiple such items,
      * the last one is returned.
@@ -975,6 +1189,33 @@ public interface ISeq<T> extends List<T> {
      */
     List<T> reify();
 
+    /**
+     * Returns a seq of the same items as this seq where the already realized items are stored in array-backed chunks
+     * instead of one object (or more) per item. The unrealized remainder of this seq is kept as is and will not be
+     * forced.
+     * <p>
+     * <i>This is useful for long-lived seqs that have been cached by lazy operations like {@link #map} or
+     * {@link #filter}.</i>
+     *
+     * @return a seq of the same items as this seq with the realized items compacted into chunks
+     */
+    ISeq<T> compact();
+
+    /**
+     * Returns a lazy seq of the items of {@code xform} applied to consecutive chunks of this seq. Each chunk of results
+     * is held through a soft reference and is recomputed from its chunk of this seq if the garbage collector cleared
+     * it while memory was low. This trades recomputation for memory.
+     * <p>
+     * {@code xform} must be pure and must only use item-wise operations like {@link #map}, {@link #filter} or
+     * {@link #mapcat}, so that applying it to each chunk separately yields the same items as applying it to this seq.
+     * This seq is retained and should therefore be cheap to hold, e.g. an array or a string.
+     *
+     * @param xform the pipeline to apply to each chunk of this seq
+     * @param <R>   the type of items in the returned seq
+     * @return a lazy seq of the items of xform applied to this seq, cached through soft references
+     */
+    <R> ISeq<R> softCached(Function<? super ISeq<T>, ? extends ISeq<R>> xform);
+
     /**
      * Returns a seq of {@code java.util.Map.Entry} from distinct items in this seq to the number of times they appear.
      * <p>
@@ -984,4 +1225,17 @@ public interface ISeq<T> extends List<T> {
      * @return a seq of {@code java.util.Map.Entry} from distinct items in this seq to the number of times they appear
      */
     ISeq<Map.Entry<T, Integer>> frequencies();
+
+    /**
+     * Returns a map of the items of this seq keyed by the result of {@code f} on each item. The value at each key is a
+     * seq of the corresponding items, in the order they appeared in this seq.
+     * <p>
+     * <b>Caution:</b> The seq will be fully realized. If this seq is infinite, it will run infinitely or until system
+     * resources are exhausted.
+     *
+     * @param f   the function to generate the key of each item
+     * @param <K> the type of the keys
+     * @return a map from the result of f to a seq of the items in this seq for which f returned that result
+     */
+    <K> Map<K, ISeq<T>> groupBy(Function<? super T, ? extends K> f);
 }
@@ -0,0 +1,186 @@
+package com.github.nylle.javaseq;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A seq over the range {@code [index, end)} of a random-access source. Subclasses only provide access to the items of
+ * the source and create views of a sub-range; all operations are implemented here in terms of those.
+ *
+ * @param <T> the type of items in the seq
+ */
+abstract class IndexedSeq<T> extends ASeq<T> implements ISeq<T> {
+
+    protected final int index;
+    protected final int end;
+    protected final int count;
+
+    IndexedSeq(int index, int end) {
+        this.index = index;
+        this.end = end;
+        this.count = end - index;
+    }
+
+    abstract T itemAt(int i);
+
+    abstract ISeq<T> slice(int index, int end);
+
+    @Override
+    public T first() {
+        return itemAt(index);
+    }
+
+    public T last() {
+        return itemAt(end - 1);
+    }
+
+    @Override
+    public ISeq<T> rest() {
+        if (count > 1) {
+            return slice(index + 1, end);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public boolean isRealized() {
+        return true;
+    }
+
+    @Override
+    public ISeq<T> take(long n) {
+        if (n >= count) {
+            return this;
+        }
+        if (n > 0) {
+            return slice(index, (int) n + index);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public ISeq<T> drop(long n) {
+        if (n >= count) {
+            return ISeq.of();
+        }
+        if (n > 0) {
+            return slice((int) n + index, end);
+        }
+        return this;
+    }
+
+    @Override
+    public ISeq<T> takeWhile(Predicate<? super T> pred) {
+        var newEnd = index;
+        for (int i = index; i < end; i++) {
+            if (!pred.test(itemAt(i))) {
+                break;
+            }
+            newEnd++;
+        }
+        if (newEnd > index) {
+            return slice(index, newEnd);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public ISeq<T> dropWhile(Predicate<? super T> pred) {
+        var newIndex = index;
+        for (int i = index; i < end; i++) {
+            if (!pred.test(itemAt(i))) {
+                break;
+            }
+            newIndex++;
+        }
+        if (newIndex == index) {
+            return this;
+        }
+        if (newIndex < end) {
+            return slice(newIndex, end);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public <R> ISeq<R> map(Function<? super T, ? extends R> f) {
+        return map(index, f);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> ISeq<R> map(int from, Function<? super T, ? extends R> f) {
+        return ISeq.lazySeq(() -> {
+            var chunkEnd = Math.min(end, from + Util.CHUNK_SIZE);
+            var acc = (R[]) new Object[chunkEnd - from];
+            for (int i = from; i < chunkEnd; i++) {
+                acc[i - from] = f.apply(itemAt(i));
+            }
+            return new ChunkedCons<>(new ArrayChunk<>(acc), chunkEnd < end ? map(chunkEnd, f) : ISeq.of());
+        });
+    }
+
+    @Override
+    public <U> U reduce(U val, BiFunction<U, ? super T, U> f) {
+        var result = val;
+        for (int i = index; i < end; i++) {
+            result = f.apply(result, itemAt(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean some(Predicate<? super T> pred) {
+        for (int i = index; i < end; i++) {
+            if (pred.test(itemAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean every(Predicate<? super T> pred) {
+        for (int i = index; i < end; i++) {
+            if (!pred.test(itemAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected T nth(int index, Supplier<T> notFound) {
+        if (index < 0 || index >= count) {
+            return notFound.get();
+        }
+        return itemAt(index + this.index);
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = index; i < end; i++) {
+            if (Objects.equals(o, itemAt(i))) {
+                return i - index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = end - 1; i >= index; i--) {
+            if (Objects.equals(o, itemAt(i))) {
+                return i - index;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.nylle.javaseq;
+
+import java.util.Comparator;
+
+/**
+ * Sorts items incrementally: the heap is built in linear time and each chunk of the returned seq pops the next least
+ * items off of it. Reading the first {@code k} items costs O(n + k log n). Items that compare equal are yielded in
+ * their original order.
+ */
+class LazyHeapSort<T> {
+
+    private final Object[] heap;
+    private final int[] order;
+    private final Comparator<? super T> comp;
+    private int size;
+
+    LazyHeapSort(Object[] items, Comparator<? super T> comp) {
+        this.heap = items;
+        this.order = new int[items.length];
+        this.comp = comp;
+        this.size = items.length;
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    ISeq<T> seq() {
+        if (size == 0) {
+            return ISeq.of();
+        }
+        var chunk = (T[]) new Object[Math.min(Util.CHUNK_SIZE, size)];
+        for (int i = 0; i < chunk.length; i++) {
+            chunk[i] = (T) heap[0];
+            size--;
+            heap[0] = heap[size];
+            order[0] = order[size];
+            heap[size] = null;
+            siftDown(0);
+        }
+        return new ChunkedCons<>(new ArrayChunk<>(chunk), size == 0 ? ISeq.of() : ISeq.lazySeq(this::seq));
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int right = left + 1;
+            int least = right < size && less(right, left) ? right : left;
+            if (!less(least, i)) {
+                break;
+            }
+            var item = heap[i];
+            var n = order[i];
+            heap[i] = heap[least];
+            order[i] = order[least];
+            heap[least] = item;
+            order[least] = n;
+            i = least;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean less(int a, int b) {
+        int result = comp.compare((T) heap[a], (T) heap[b]);
+        return result < 0 || result == 0 && order[a] < order[b];
+    }
+}
@@ -11,7 +11,7 @@ class LazySeq<T> extends ASeq<T> implements ISeq<T> {
         this.fn = f;
     }
 
-    private ISeq<T> seq() {
+    ISeq<T> seq() {
         if (!isRealized()) {
             synchronized (this) {
                 if (!isRealized()) {
@@ -0,0 +1,89 @@
+package com.github.nylle.javaseq;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+
+/**
+ * Splits the decoded chars of a channel into lines terminated by {@code \n}, {@code \r} or {@code \r\n}, one decoded
+ * buffer at a time. Line terminators are not part of the lines, and a terminator at the very end of the input does not
+ * start another line. Lines are either copied into strings or returned as read-only slices of the decoded buffers;
+ * lines spanning two buffers are always copied. The channel is closed once all lines have been read.
+ */
+class LineSplitter {
+
+    private final ReadableByteChannel channel;
+    private final ChannelDecoder decoder;
+    private final boolean slices;
+    private final StringBuilder partial = new StringBuilder();
+    private boolean hasPartial;
+    private boolean pendingCr;
+    private boolean done;
+
+    LineSplitter(ReadableByteChannel channel, Charset charset, int capacity, boolean slices) {
+        this.channel = channel;
+        this.decoder = new ChannelDecoder(channel, charset, capacity);
+        this.slices = slices;
+    }
+
+    /**
+     * Returns the lines completed by the next decoded buffer(s), or null if all lines have been returned.
+     */
+    CharSequence[] next() throws IOException {
+        var lines = new ArrayList<CharSequence>();
+        while (lines.isEmpty() && !done) {
+            var chars = decoder.next();
+            if (chars == null) {
+                done = true;
+                channel.close();
+                if (hasPartial) {
+                    lines.add(partial.toString());
+                }
+                break;
+            }
+            split(slices ? chars.asReadOnlyBuffer() : chars, lines);
+        }
+        return lines.isEmpty() ? null : lines.toArray(new CharSequence[0]);
+    }
+
+    private void split(CharBuffer chars, ArrayList<CharSequence> lines) {
+        var length = chars.limit();
+        var start = 0;
+        if (pendingCr) {
+            pendingCr = false;
+            if (chars.get(0) == '\n') {
+                start = 1;
+            }
+        }
+        for (int i = start; i < length; i++) {
+            var c = chars.get(i);
+            if (c == '\n' || c == '\r') {
+                lines.add(line(chars, start, i));
+                if (c == '\r') {
+                    if (i + 1 == length) {
+                        pendingCr = true;
+                    } else if (chars.get(i + 1) == '\n') {
+                        i++;
+                    }
+                }
+                start = i + 1;
+            }
+        }
+        if (start < length) {
+            partial.append(chars, start, length);
+            hasPartial = true;
+        }
+    }
+
+    private CharSequence line(CharBuffer chars, int start, int end) {
+        if (hasPartial) {
+            var result = partial.append(chars, start, end).toString();
+            partial.setLength(0);
+            hasPartial = false;
+            return result;
+        }
+        return slices ? chars.subSequence(start, end) : chars.subSequence(start, end).toString();
+    }
+}
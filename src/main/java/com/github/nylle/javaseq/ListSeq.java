@@ -0,0 +1,73 @@
+package com.github.nylle.javaseq;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A seq viewing a range of an immutable, random-access list without copying it. Apart from filtering in chunks, it shares
+ * its implementation with {@link ArraySeq}.
+ *
+ * @param <T> the type of items in the seq
+ */
+public class ListSeq<T> extends IndexedSeq<T> {
+
+    private final List<T> list;
+
+    ListSeq(List<T> list, int index, int end) {
+        super(index, end);
+        if (list == null || list.isEmpty()) {
+            throw new IllegalArgumentException("list is null or empty");
+        }
+        if (index >= list.size()) {
+            throw new IllegalArgumentException("index " + index + " is out of range for list of size " + list.size());
+        }
+        if (end > list.size()) {
+            throw new IllegalArgumentException("end " + end + " is out of range for list of size " + list.size());
+        }
+        if (end <= index) {
+            throw new IllegalArgumentException("end " + end + " must be greater than index " + index);
+        }
+        this.list = list;
+    }
+
+    @Override
+    T itemAt(int i) {
+        return list.get(i);
+    }
+
+    @Override
+    ISeq<T> slice(int index, int end) {
+        return new ListSeq<>(list, index, end);
+    }
+
+    @Override
+    public ISeq<T> filter(Predicate<? super T> pred) {
+        return filter(index, pred);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ISeq<T> filter(int from, Predicate<? super T> pred) {
+        return ISeq.lazySeq(() -> {
+            var acc = (T[]) new Object[Util.CHUNK_SIZE];
+            int n = 0;
+            int i = from;
+            while (n == 0 && i < end) {
+                for (int chunkEnd = Math.min(end, i + Util.CHUNK_SIZE); i < chunkEnd; i++) {
+                    var x = list.get(i);
+                    if (pred.test(x)) {
+                        acc[n++] = x;
+                    }
+                }
+            }
+            if (n == 0) {
+                return ISeq.of();
+            }
+            return new ChunkedCons<>(new ArrayChunk<>(acc, 0, n), i < end ? filter(i, pred) : ISeq.of());
+        });
+    }
+
+    @Override
+    public Object[] toArray() {
+        return list.subList(index, end).toArray();
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.nylle.javaseq;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link CharSequence} reading the bytes of a buffer as ISO-8859-1 (Latin-1) characters, which includes US-ASCII.
+ * Characters are read from the buffer with absolute gets on access; nothing is decoded into the heap until
+ * {@link #toString()} is called. Sub-sequences share the buffer.
+ * <p>
+ * The buffer is typically a {@link java.nio.MappedByteBuffer} over a file (see {@link Util#mappedCharSequence}), so a
+ * file can be viewed as text without reading it into memory.
+ */
+public class MappedCharSequence implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    MappedCharSequence(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return (char) (buffer.get(offset + index) & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+        }
+        return new MappedCharSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        var bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
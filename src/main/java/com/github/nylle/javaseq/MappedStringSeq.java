@@ -0,0 +1,184 @@
+package com.github.nylle.javaseq;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A seq of the characters of a memory-mapped Latin-1 file that is too large to be mapped as one
+ * {@link MappedCharSequence}. The file is mapped in windows of equal size, except for the last one, so the window
+ * holding a character is found by division, which makes {@link #count}, {@link #nth}, {@link #take} and {@link #drop}
+ * constant-time operations at any file size. Ranges that lie within one window are returned as a {@link StringSeq}
+ * over that window.
+ */
+public class MappedStringSeq extends ASeq<Character> implements ISeq<Character> {
+
+    private final MappedCharSequence[] windows;
+    private final int windowSize;
+    private final long index;
+    private final long end;
+
+    MappedStringSeq(MappedCharSequence[] windows, int windowSize, long index, long end) {
+        if (windows == null || windows.length == 0) {
+            throw new IllegalArgumentException("windows is null or empty");
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be greater than 0");
+        }
+        if (end > (long) windowSize * (windows.length - 1) + windows[windows.length - 1].length()) {
+            throw new IllegalArgumentException("end " + end + " is out of range for " + windows.length + " windows of " + windowSize + " chars");
+        }
+        if (end <= index) {
+            throw new IllegalArgumentException("end " + end + " must be greater than index " + index);
+        }
+        this.windows = windows;
+        this.windowSize = windowSize;
+        this.index = index;
+        this.end = end;
+    }
+
+    private char charAtAbsolute(long i) {
+        return windows[(int) (i / windowSize)].charAt((int) (i % windowSize));
+    }
+
+    private ISeq<Character> withRange(long index, long end) {
+        var window = (int) (index / windowSize);
+        if (window == (end - 1) / windowSize) {
+            var offset = (long) window * windowSize;
+            return new StringSeq(windows[window], (int) (index - offset), (int) (end - offset));
+        }
+        return new MappedStringSeq(windows, windowSize, index, end);
+    }
+
+    private long windowEnd(long i) {
+        return Math.min(end, (i / windowSize + 1) * windowSize);
+    }
+
+    @Override
+    public Character first() {
+        return charAtAbsolute(index);
+    }
+
+    @Override
+    public Character last() {
+        return charAtAbsolute(end - 1);
+    }
+
+    @Override
+    public ISeq<Character> rest() {
+        if (end - index > 1) {
+            return withRange(index + 1, end);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public boolean isRealized() {
+        return true;
+    }
+
+    @Override
+    public ISeq<Character> take(long n) {
+        if (n >= end - index) {
+            return this;
+        }
+        if (n > 0) {
+            return withRange(index, index + n);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public ISeq<Character> drop(long n) {
+        if (n >= end - index) {
+            return ISeq.of();
+        }
+        if (n > 0) {
+            return withRange(index + n, end);
+        }
+        return this;
+    }
+
+    @Override
+    public <R> ISeq<R> map(Function<? super Character, ? extends R> f) {
+        return map(index, f);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> ISeq<R> map(long from, Function<? super Character, ? extends R> f) {
+        return ISeq.lazySeq(() -> {
+            var chunkEnd = Math.min(windowEnd(from), from + Util.CHUNK_SIZE);
+            var acc = (R[]) new Object[(int) (chunkEnd - from)];
+            for (long i = from; i < chunkEnd; i++) {
+                acc[(int) (i - from)] = f.apply(charAtAbsolute(i));
+            }
+            return new ChunkedCons<>(new ArrayChunk<>(acc), chunkEnd < end ? map(chunkEnd, f) : ISeq.of());
+        });
+    }
+
+    @Override
+    public <U> U reduce(U val, BiFunction<U, ? super Character, U> f) {
+        var result = val;
+        for (long i = index; i < end; i++) {
+            result = f.apply(result, charAtAbsolute(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean some(Predicate<? super Character> pred) {
+        for (long i = index; i < end; i++) {
+            if (pred.test(charAtAbsolute(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean every(Predicate<? super Character> pred) {
+        for (long i = index; i < end; i++) {
+            if (!pred.test(charAtAbsolute(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Character nth(int i, Supplier<Character> notFound) {
+        if (i < 0 || i >= end - index) {
+            return notFound.get();
+        }
+        return charAtAbsolute(index + i);
+    }
+
+    @Override
+    public int count() {
+        return (int) Math.min(end - index, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of characters in this seq, which may exceed {@link Integer#MAX_VALUE} for large files.
+     *
+     * @return the number of characters
+     */
+    public long longCount() {
+        return end - index;
+    }
+
+    /**
+     * Returns the character at {@code index} in this seq, which may exceed {@link Integer#MAX_VALUE} for large files.
+     *
+     * @param index the index of the character
+     * @return the character at index
+     * @throws IndexOutOfBoundsException if index is negative or not less than {@link #longCount()}
+     */
+    public char charAt(long index) {
+        if (index < 0 || index >= end - this.index) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + (end - this.index));
+        }
+        return charAtAbsolute(this.index + index);
+    }
+}
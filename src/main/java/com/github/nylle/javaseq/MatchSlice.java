@@ -0,0 +1,104 @@
+package com.github.nylle.javaseq;
+
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+
+/**
+ * A {@link MatchResult} that records only the offsets of a match and its groups in the searched text. Groups are
+ * copied into strings only when {@link #group(int)} is called; {@link #slice(int)} returns a view instead. Offsets are
+ * relative to the start of the searched seq.
+ */
+public class MatchSlice implements MatchResult {
+
+    private final CharSequence source;
+    private final int base;
+    private final int[] offsets;
+
+    MatchSlice(CharSequence source, int base, Matcher matcher) {
+        this.source = source;
+        this.base = base;
+        this.offsets = new int[(matcher.groupCount() + 1) * 2];
+        for (int g = 0; g <= matcher.groupCount(); g++) {
+            offsets[2 * g] = matcher.start(g);
+            offsets[2 * g + 1] = matcher.end(g);
+        }
+    }
+
+    @Override
+    public int start() {
+        return start(0);
+    }
+
+    @Override
+    public int start(int group) {
+        var result = offsets[index(group)];
+        return result < 0 ? -1 : result - base;
+    }
+
+    @Override
+    public int end() {
+        return end(0);
+    }
+
+    @Override
+    public int end(int group) {
+        var result = offsets[index(group) + 1];
+        return result < 0 ? -1 : result - base;
+    }
+
+    @Override
+    public String group() {
+        return group(0);
+    }
+
+    @Override
+    public String group(int group) {
+        var start = offsets[index(group)];
+        if (start < 0) {
+            return null;
+        }
+        return source.subSequence(start, offsets[index(group) + 1]).toString();
+    }
+
+    @Override
+    public int groupCount() {
+        return offsets.length / 2 - 1;
+    }
+
+    /**
+     * Returns a view of the chars matched by the whole pattern, without copying them.
+     *
+     * @return a slice of the match
+     */
+    public CharSlice slice() {
+        return slice(0);
+    }
+
+    /**
+     * Returns a view of the chars matched by {@code group}, without copying them, or null if the group did not take
+     * part in the match.
+     *
+     * @param group the index of a capturing group, or 0 for the whole match
+     * @return a slice of the group, or null
+     * @throws IndexOutOfBoundsException if there is no group with the given index
+     */
+    public CharSlice slice(int group) {
+        var start = offsets[index(group)];
+        if (start < 0) {
+            return null;
+        }
+        return new CharSlice(source, start, offsets[index(group) + 1] - start);
+    }
+
+    @Override
+    public String toString() {
+        return "MatchSlice[" + start() + ", " + end() + ": " + group() + "]";
+    }
+
+    private int index(int group) {
+        if (group < 0 || group > groupCount()) {
+            throw new IndexOutOfBoundsException("No group " + group);
+        }
+        return 2 * group;
+    }
+}
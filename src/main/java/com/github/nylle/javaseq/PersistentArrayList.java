@@ -0,0 +1,95 @@
+package com.github.nylle.javaseq;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that can be extended at its end without copying. Lists derived from each other share one growing
+ * array: appending to the list that owns the end of the array fills the next free slots in place, while appending to
+ * any other list copies its items into a new array first. Repeatedly appending to the latest list is therefore
+ * amortized constant time per item. Items must not be {@code null}.
+ *
+ * @param <T> the type of items in the list
+ */
+final class PersistentArrayList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Buffer buffer;
+    private final Object[] array;
+    private final int count;
+
+    private PersistentArrayList(Buffer buffer, int count) {
+        this.buffer = buffer;
+        this.array = buffer.array;
+        this.count = count;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentArrayList<T> from(Collection<? extends T> coll) {
+        if (coll instanceof PersistentArrayList<?> persistentArrayList) {
+            return (PersistentArrayList<T>) persistentArrayList;
+        }
+        var array = coll.toArray();
+        for (var x : array) {
+            Objects.requireNonNull(x);
+        }
+        return new PersistentArrayList<>(new Buffer(array, array.length), array.length);
+    }
+
+    @SafeVarargs
+    final PersistentArrayList<T> conj(T... xs) {
+        for (var x : xs) {
+            Objects.requireNonNull(x);
+        }
+        if (xs.length == 0) {
+            return this;
+        }
+        synchronized (buffer) {
+            if (buffer.fill == count) {
+                buffer.ensureCapacity(count + xs.length);
+                System.arraycopy(xs, 0, buffer.array, count, xs.length);
+                buffer.fill += xs.length;
+                return new PersistentArrayList<>(buffer, count + xs.length);
+            }
+        }
+        var copy = Arrays.copyOf(array, count + xs.length, Object[].class);
+        System.arraycopy(xs, 0, copy, count, xs.length);
+        return new PersistentArrayList<>(new Buffer(copy, copy.length), copy.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    ISeq<T> seq() {
+        return count == 0 ? Util.nil() : new ArraySeq<>((T[]) array, 0, count);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, count);
+        return (T) array[index];
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    private static final class Buffer {
+
+        private Object[] array;
+        private int fill;
+
+        private Buffer(Object[] array, int fill) {
+            this.array = array;
+            this.fill = fill;
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity > array.length) {
+                array = Arrays.copyOf(array, Math.max(minCapacity, array.length + (array.length >> 1)));
+            }
+        }
+    }
+}
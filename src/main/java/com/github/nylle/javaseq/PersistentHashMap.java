@@ -0,0 +1,494 @@
+package com.github.nylle.javaseq;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable, persistent hash map implemented as a hash array mapped trie (HAMT). Adding or removing a key returns
+ * a new map that shares all untouched nodes with the previous one. Use {@link #asTransient()} to build large maps
+ * without creating an intermediate map for every key. Keys and values may be {@code null}.
+ *
+ * @param <K> the type of keys in the map
+ * @param <V> the type of values in the map
+ */
+public class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(0, null, false, null);
+    static final Object NOT_FOUND = new Object();
+
+    private final int count;
+    private final Node root;
+    private final boolean hasNull;
+    private final V nullValue;
+
+    PersistentHashMap(int count, Node root, boolean hasNull, V nullValue) {
+        this.count = count;
+        this.root = root;
+        this.hasNull = hasNull;
+        this.nullValue = nullValue;
+    }
+
+    /**
+     * Returns an empty map.
+     *
+     * @param <K> the type of keys in the map
+     * @param <V> the type of values in the map
+     * @return an empty map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map with all entries of {@code map}.
+     *
+     * @param map the entries to be contained in the map
+     * @param <K> the type of keys in the map
+     * @param <V> the type of values in the map
+     * @return a map with all entries of map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> from(Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentHashMap<?, ?> persistentHashMap) {
+            return (PersistentHashMap<K, V>) persistentHashMap;
+        }
+        var result = PersistentHashMap.<K, V>empty().asTransient();
+        for (var entry : map.entrySet()) {
+            result.assoc(entry.getKey(), entry.getValue());
+        }
+        return result.persistent();
+    }
+
+    /**
+     * Returns a new map that contains the mapping of {@code key} to {@code val}, replacing any previous mapping of
+     * {@code key}.
+     *
+     * @param key the key
+     * @param val the value
+     * @return a new map that contains the mapping of key to val
+     */
+    public PersistentHashMap<K, V> assoc(K key, V val) {
+        if (key == null) {
+            if (hasNull && val == nullValue) {
+                return this;
+            }
+            return new PersistentHashMap<>(hasNull ? count : count + 1, root, true, val);
+        }
+        var addedLeaf = new Box();
+        var newRoot = (root == null ? BitmapNode.EMPTY : root).assoc(null, 0, hash(key), key, val, addedLeaf);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(addedLeaf.added ? count + 1 : count, newRoot, hasNull, nullValue);
+    }
+
+    /**
+     * Returns a new map that does not contain a mapping for {@code key}.
+     *
+     * @param key the key
+     * @return a new map that does not contain a mapping for key
+     */
+    public PersistentHashMap<K, V> dissoc(Object key) {
+        if (key == null) {
+            return hasNull ? new PersistentHashMap<>(count - 1, root, false, null) : this;
+        }
+        if (root == null) {
+            return this;
+        }
+        var newRoot = root.without(0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(count - 1, newRoot, hasNull, nullValue);
+    }
+
+    /**
+     * Returns a mutable copy of this map that can be frozen into a persistent map again in constant time. This map is
+     * not affected by any changes made to the returned transient.
+     *
+     * @return a transient copy of this map
+     */
+    public TransientHashMap<K, V> asTransient() {
+        return new TransientHashMap<>(count, root, hasNull, nullValue);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        var result = find(key);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        var result = find(key);
+        return result == NOT_FOUND ? defaultValue : (V) result;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new NodeIterator<>(root, hasNull, nullValue);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    private Object find(Object key) {
+        if (key == null) {
+            return hasNull ? nullValue : NOT_FOUND;
+        }
+        return root == null ? NOT_FOUND : root.find(0, hash(key), key);
+    }
+
+    static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitpos(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 0x1f);
+    }
+
+    private static Object[] removePair(Object[] array, int length, int i) {
+        var result = new Object[length - 2];
+        System.arraycopy(array, 0, result, 0, 2 * i);
+        System.arraycopy(array, 2 * (i + 1), result, 2 * i, length - 2 * (i + 1));
+        return result;
+    }
+
+    private static Node createNode(Object edit, int shift, Object key1, Object val1, int key2hash, Object key2, Object val2) {
+        int key1hash = hash(key1);
+        if (key1hash == key2hash) {
+            return new CollisionNode(edit, key1hash, 2, new Object[]{key1, val1, key2, val2});
+        }
+        var addedLeaf = new Box();
+        return BitmapNode.EMPTY
+                .assoc(edit, shift, key1hash, key1, val1, addedLeaf)
+                .assoc(edit, shift, key2hash, key2, val2, addedLeaf);
+    }
+
+    static final class Box {
+        boolean added;
+    }
+
+    abstract static class Node {
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node assoc(Object edit, int shift, int hash, Object key, Object val, Box addedLeaf);
+
+        abstract Node without(int shift, int hash, Object key);
+
+        abstract Object[] array();
+
+        abstract int length();
+    }
+
+    static final class BitmapNode extends Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, new Object[0]);
+
+        private final Object edit;
+        private int bitmap;
+        private Object[] array;
+
+        BitmapNode(Object edit, int bitmap, Object[] array) {
+            this.edit = edit;
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            int i = index(bit);
+            var k = array[2 * i];
+            var v = array[2 * i + 1];
+            if (k == null) {
+                return ((Node) v).find(shift + 5, hash, key);
+            }
+            return key == k || key.equals(k) ? v : NOT_FOUND;
+        }
+
+        @Override
+        Node assoc(Object edit, int shift, int hash, Object key, Object val, Box addedLeaf) {
+            int bit = bitpos(hash, shift);
+            int i = index(bit);
+            if ((bitmap & bit) != 0) {
+                var k = array[2 * i];
+                var v = array[2 * i + 1];
+                if (k == null) {
+                    var node = ((Node) v).assoc(edit, shift + 5, hash, key, val, addedLeaf);
+                    return node == v ? this : editAndSet(edit, 2 * i + 1, node);
+                }
+                if (key == k || key.equals(k)) {
+                    return v == val ? this : editAndSet(edit, 2 * i + 1, val);
+                }
+                addedLeaf.added = true;
+                var editable = ensureEditable(edit);
+                editable.array[2 * i] = null;
+                editable.array[2 * i + 1] = createNode(edit, shift + 5, k, v, hash, key, val);
+                return editable;
+            }
+
+            addedLeaf.added = true;
+            int n = Integer.bitCount(bitmap);
+            if (edit != null && edit == this.edit && 2 * n < array.length) {
+                System.arraycopy(array, 2 * i, array, 2 * (i + 1), 2 * (n - i));
+                array[2 * i] = key;
+                array[2 * i + 1] = val;
+                bitmap |= bit;
+                return this;
+            }
+            int capacity = edit == null ? n + 1 : Math.min(32, 2 * (n + 1));
+            var newArray = new Object[2 * capacity];
+            System.arraycopy(array, 0, newArray, 0, 2 * i);
+            newArray[2 * i] = key;
+            newArray[2 * i + 1] = val;
+            System.arraycopy(array, 2 * i, newArray, 2 * (i + 1), 2 * (n - i));
+            return new BitmapNode(edit, bitmap | bit, newArray);
+        }
+
+        @Override
+        Node without(int shift, int hash, Object key) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = index(bit);
+            var k = array[2 * i];
+            var v = array[2 * i + 1];
+            if (k == null) {
+                var node = ((Node) v).without(shift + 5, hash, key);
+                if (node == v) {
+                    return this;
+                }
+                if (node != null) {
+                    return editAndSet(null, 2 * i + 1, node);
+                }
+            } else if (!(key == k || key.equals(k))) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            return new BitmapNode(null, bitmap ^ bit, removePair(array, length(), i));
+        }
+
+        @Override
+        Object[] array() {
+            return array;
+        }
+
+        @Override
+        int length() {
+            return 2 * Integer.bitCount(bitmap);
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private BitmapNode ensureEditable(Object edit) {
+            if (edit != null && edit == this.edit) {
+                return this;
+            }
+            int n = Integer.bitCount(bitmap);
+            var newArray = new Object[edit == null ? 2 * n : 2 * Math.min(32, n + 1)];
+            System.arraycopy(array, 0, newArray, 0, 2 * n);
+            return new BitmapNode(edit, bitmap, newArray);
+        }
+
+        private BitmapNode editAndSet(Object edit, int i, Object x) {
+            var editable = ensureEditable(edit);
+            editable.array[i] = x;
+            return editable;
+        }
+    }
+
+    static final class CollisionNode extends Node {
+
+        private final Object edit;
+        private final int hash;
+        private int count;
+        private Object[] array;
+
+        CollisionNode(Object edit, int hash, int count, Object[] array) {
+            this.edit = edit;
+            this.hash = hash;
+            this.count = count;
+            this.array = array;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int i = indexOf(key);
+            return i < 0 ? NOT_FOUND : array[i + 1];
+        }
+
+        @Override
+        Node assoc(Object edit, int shift, int hash, Object key, Object val, Box addedLeaf) {
+            if (hash != this.hash) {
+                return new BitmapNode(edit, bitpos(this.hash, shift), new Object[]{null, this})
+                        .assoc(edit, shift, hash, key, val, addedLeaf);
+            }
+            int i = indexOf(key);
+            if (i >= 0) {
+                if (array[i + 1] == val) {
+                    return this;
+                }
+                if (edit != null && edit == this.edit) {
+                    array[i + 1] = val;
+                    return this;
+                }
+                var newArray = array.clone();
+                newArray[i + 1] = val;
+                return new CollisionNode(edit, hash, count, newArray);
+            }
+            addedLeaf.added = true;
+            var newArray = new Object[2 * (count + 1)];
+            System.arraycopy(array, 0, newArray, 0, 2 * count);
+            newArray[2 * count] = key;
+            newArray[2 * count + 1] = val;
+            if (edit != null && edit == this.edit) {
+                array = newArray;
+                count++;
+                return this;
+            }
+            return new CollisionNode(edit, hash, count + 1, newArray);
+        }
+
+        @Override
+        Node without(int shift, int hash, Object key) {
+            int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+            if (count == 1) {
+                return null;
+            }
+            return new CollisionNode(null, hash, count - 1, removePair(array, length(), i / 2));
+        }
+
+        @Override
+        Object[] array() {
+            return array;
+        }
+
+        @Override
+        int length() {
+            return 2 * count;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < 2 * count; i += 2) {
+                if (key == array[i] || key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final class NodeIterator<K, V> implements Iterator<Entry<K, V>> {
+
+        private static final int MAX_DEPTH = 8;
+
+        private final Object[][] arrays = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private final int[] lengths = new int[MAX_DEPTH];
+        private int depth = -1;
+        private boolean seenNull;
+        private final V nullValue;
+        private Object nextKey;
+        private Object nextVal;
+        private boolean ready;
+
+        NodeIterator(Node root, boolean hasNull, V nullValue) {
+            this.seenNull = !hasNull;
+            this.nullValue = nullValue;
+            if (root != null) {
+                push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (ready) {
+                return true;
+            }
+            if (!seenNull) {
+                seenNull = true;
+                nextKey = null;
+                nextVal = nullValue;
+                return ready = true;
+            }
+            while (depth >= 0) {
+                int i = positions[depth];
+                if (i >= lengths[depth]) {
+                    arrays[depth--] = null;
+                    continue;
+                }
+                positions[depth] = i + 2;
+                var k = arrays[depth][i];
+                var v = arrays[depth][i + 1];
+                if (k == null) {
+                    push((Node) v);
+                    continue;
+                }
+                nextKey = k;
+                nextVal = v;
+                return ready = true;
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            return new SimpleImmutableEntry<>((K) nextKey, (V) nextVal);
+        }
+
+        private void push(Node node) {
+            depth++;
+            arrays[depth] = node.array();
+            positions[depth] = 0;
+            lengths[depth] = node.length();
+        }
+    }
+}
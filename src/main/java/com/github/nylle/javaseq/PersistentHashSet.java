@@ -0,0 +1,104 @@
+package com.github.nylle.javaseq;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * An immutable, persistent hash set backed by a {@link PersistentHashMap}. Adding or removing an item returns a new
+ * set that shares its structure with the previous one. Use {@link #asTransient()} to build large sets in bulk. Items
+ * may be {@code null}.
+ *
+ * @param <T> the type of items in the set
+ */
+public class PersistentHashSet<T> extends AbstractSet<T> {
+
+    private static final PersistentHashSet<?> EMPTY = new PersistentHashSet<>(PersistentHashMap.empty());
+
+    private final PersistentHashMap<T, T> impl;
+
+    PersistentHashSet(PersistentHashMap<T, T> impl) {
+        this.impl = impl;
+    }
+
+    /**
+     * Returns an empty set.
+     *
+     * @param <T> the type of items in the set
+     * @return an empty set
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentHashSet<T> empty() {
+        return (PersistentHashSet<T>) EMPTY;
+    }
+
+    /**
+     * Returns a set of all distinct items in {@code coll}.
+     *
+     * @param coll the items to be contained in the set
+     * @param <T>  the type of items in the set
+     * @return a set of all distinct items in coll
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentHashSet<T> from(Collection<? extends T> coll) {
+        if (coll instanceof PersistentHashSet<?> persistentHashSet) {
+            return (PersistentHashSet<T>) persistentHashSet;
+        }
+        var result = PersistentHashSet.<T>empty().asTransient();
+        for (T x : coll) {
+            result.conj(x);
+        }
+        return result.persistent();
+    }
+
+    /**
+     * Returns a new set that contains {@code x}.
+     *
+     * @param x the item to add
+     * @return a new set that contains x
+     */
+    public PersistentHashSet<T> conj(T x) {
+        return impl.containsKey(x) ? this : new PersistentHashSet<>(impl.assoc(x, x));
+    }
+
+    /**
+     * Returns a new set that does not contain {@code x}.
+     *
+     * @param x the item to remove
+     * @return a new set that does not contain x
+     */
+    public PersistentHashSet<T> disj(Object x) {
+        var result = impl.dissoc(x);
+        return result == impl ? this : new PersistentHashSet<>(result);
+    }
+
+    /**
+     * Returns a mutable copy of this set that can be frozen into a persistent set again in constant time. This set is
+     * not affected by any changes made to the returned transient.
+     *
+     * @return a transient copy of this set
+     */
+    public TransientHashSet<T> asTransient() {
+        return new TransientHashSet<>(impl.asTransient());
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return impl.containsKey(o);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return impl.keySet().iterator();
+    }
+
+    @Override
+    public int size() {
+        return impl.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return impl.isEmpty();
+    }
+}
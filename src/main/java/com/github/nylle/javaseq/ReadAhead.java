@@ -0,0 +1,68 @@
+package com.github.nylle.javaseq;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads the next value of a source on a background thread while the current one is being consumed. The source is
+ * called from one thread at a time and in order, one value ahead of the consumer. Exceptions thrown by the source are
+ * rethrown to the consumer when it takes the value that failed.
+ *
+ * @param <T> the type of values read
+ */
+class ReadAhead<T> {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        var thread = new Thread(r, "javaseq-read-ahead");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    interface Source<T> {
+        T read() throws IOException;
+    }
+
+    private final Source<T> source;
+    private CompletableFuture<T> next;
+
+    ReadAhead(Source<T> source) {
+        this.source = source;
+        this.next = read();
+    }
+
+    /**
+     * Returns the next value, waiting for it to be read if necessary, and starts reading the value after it unless the
+     * source returned null.
+     */
+    synchronized T next() throws IOException {
+        T result;
+        try {
+            result = next.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        if (result != null) {
+            next = read();
+        }
+        return result;
+    }
+
+    private CompletableFuture<T> read() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return source.read();
+            } catch (IOException ex) {
+                throw new CompletionException(ex);
+            }
+        }, EXECUTOR);
+    }
+}
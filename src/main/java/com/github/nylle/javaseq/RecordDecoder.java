@@ -0,0 +1,22 @@
+package com.github.nylle.javaseq;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes a fixed-size binary record into an item. Used by {@link RecordSeq} to read records from a memory-mapped file.
+ *
+ * @param <R> the type of items
+ */
+@FunctionalInterface
+public interface RecordDecoder<R> {
+
+    /**
+     * Decodes the record starting at {@code offset} in {@code buffer}. Implementations must use absolute gets only and
+     * must not read past the record size they were registered with.
+     *
+     * @param buffer the buffer holding the record
+     * @param offset the absolute offset of the first byte of the record
+     * @return the decoded item
+     */
+    R decode(ByteBuffer buffer, int offset);
+}
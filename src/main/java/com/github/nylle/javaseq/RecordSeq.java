@@ -0,0 +1,191 @@
+package com.github.nylle.javaseq;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A seq of fixed-size binary records in one or more buffers, typically the segments of a memory-mapped file. Every
+ * segment holds a whole number of records, so a record never spans two buffers. Records are decoded on access with
+ * a {@link RecordDecoder}, which makes {@link #count}, {@link #nth} and {@link #drop} constant-time operations.
+ *
+ * @param <R> the type of decoded records
+ */
+public class RecordSeq<R> extends ASeq<R> implements ISeq<R> {
+
+    private final ByteBuffer[] segments;
+    private final int recordsPerSegment;
+    private final int recordSize;
+    private final RecordDecoder<? extends R> decoder;
+    private final long index;
+    private final long end;
+
+    RecordSeq(ByteBuffer[] segments, int recordsPerSegment, int recordSize, RecordDecoder<? extends R> decoder, long index, long end) {
+        if (segments == null || segments.length == 0) {
+            throw new IllegalArgumentException("segments is null or empty");
+        }
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("recordSize must be greater than 0");
+        }
+        if (end > (long) recordsPerSegment * segments.length) {
+            throw new IllegalArgumentException("end " + end + " is out of range for " + segments.length + " segments of " + recordsPerSegment + " records");
+        }
+        if (end <= index) {
+            throw new IllegalArgumentException("end " + end + " must be greater than index " + index);
+        }
+        this.segments = segments;
+        this.recordsPerSegment = recordsPerSegment;
+        this.recordSize = recordSize;
+        this.decoder = decoder;
+        this.index = index;
+        this.end = end;
+    }
+
+    private R decode(long i) {
+        return decoder.decode(segments[(int) (i / recordsPerSegment)], (int) (i % recordsPerSegment) * recordSize);
+    }
+
+    private RecordSeq<R> withRange(long index, long end) {
+        return new RecordSeq<>(segments, recordsPerSegment, recordSize, decoder, index, end);
+    }
+
+    private long segmentEnd(long i) {
+        return Math.min(end, (i / recordsPerSegment + 1) * recordsPerSegment);
+    }
+
+    @Override
+    public R first() {
+        return decode(index);
+    }
+
+    @Override
+    public R last() {
+        return decode(end - 1);
+    }
+
+    @Override
+    public ISeq<R> rest() {
+        if (end - index > 1) {
+            return withRange(index + 1, end);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public boolean isRealized() {
+        return true;
+    }
+
+    @Override
+    public ISeq<R> take(long n) {
+        if (n >= end - index) {
+            return this;
+        }
+        if (n > 0) {
+            return withRange(index, index + n);
+        }
+        return ISeq.of();
+    }
+
+    @Override
+    public ISeq<R> drop(long n) {
+        if (n >= end - index) {
+            return ISeq.of();
+        }
+        if (n > 0) {
+            return withRange(index + n, end);
+        }
+        return this;
+    }
+
+    @Override
+    public <U> ISeq<U> map(Function<? super R, ? extends U> f) {
+        return map(index, f);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> ISeq<U> map(long from, Function<? super R, ? extends U> f) {
+        return ISeq.lazySeq(() -> {
+            var chunkEnd = Math.min(segmentEnd(from), from + Util.CHUNK_SIZE);
+            var acc = (U[]) new Object[(int) (chunkEnd - from)];
+            for (long i = from; i < chunkEnd; i++) {
+                acc[(int) (i - from)] = f.apply(decode(i));
+            }
+            return new ChunkedCons<>(new ArrayChunk<>(acc), chunkEnd < end ? map(chunkEnd, f) : ISeq.of());
+        });
+    }
+
+    @Override
+    public <U> U reduce(U val, BiFunction<U, ? super R, U> f) {
+        var result = val;
+        for (long i = index; i < end; i++) {
+            result = f.apply(result, decode(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean some(Predicate<? super R> pred) {
+        for (long i = index; i < end; i++) {
+            if (pred.test(decode(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean every(Predicate<? super R> pred) {
+        for (long i = index; i < end; i++) {
+            if (!pred.test(decode(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected R nth(int i, Supplier<R> notFound) {
+        if (i < 0 || i >= end - index) {
+            return notFound.get();
+        }
+        return decode(index + i);
+    }
+
+    @Override
+    public int count() {
+        return (int) Math.min(end - index, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of records in this seq, which may exceed {@link Integer#MAX_VALUE} for large files.
+     *
+     * @return the number of records
+     */
+    public long longCount() {
+        return end - index;
+    }
+
+    /**
+     * Returns a lazy seq of flyweight views of the records in this seq, without decoding them. Records are visited
+     * in chunks of up to 32, and all records of a chunk are returned as the same {@link RecordView}, moved to the
+     * current record on access. A view must therefore not be kept after moving on to the next item; map views to
+     * values before using operations that hold on to items, such as {@code filter} or {@code sorted}.
+     *
+     * @return a lazy seq of reusable record views
+     */
+    public ISeq<RecordView> views() {
+        return views(index);
+    }
+
+    private ISeq<RecordView> views(long from) {
+        return ISeq.lazySeq(() -> {
+            var chunkEnd = Math.min(segmentEnd(from), from + Util.CHUNK_SIZE);
+            var offset = (int) (from % recordsPerSegment) * recordSize;
+            var chunk = new RecordViewChunk(segments[(int) (from / recordsPerSegment)], offset, offset + (int) (chunkEnd - from) * recordSize, recordSize);
+            return new ChunkedCons<>(chunk, chunkEnd < end ? views(chunkEnd) : ISeq.of());
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.nylle.javaseq;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable view of a single fixed-size record in a {@link RecordSeq}. Field offsets are relative to the start of the
+ * record. A view returned by {@link RecordSeq#views()} is shared by all records of a chunk and is moved to the next
+ * record as the seq is walked, so it must not be kept beyond the current item; use {@link #toByteArray()} to detach it.
+ */
+public class RecordView {
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private int offset;
+
+    RecordView(ByteBuffer buffer, int offset, int size) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    RecordView moveTo(int offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Returns the size of a record in bytes.
+     *
+     * @return the record size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the byte at {@code field} bytes from the start of the record.
+     *
+     * @param field the offset of the field within the record
+     * @return the byte value
+     */
+    public byte getByte(int field) {
+        return buffer.get(offset + field);
+    }
+
+    /**
+     * Returns the short at {@code field} bytes from the start of the record.
+     *
+     * @param field the offset of the field within the record
+     * @return the short value
+     */
+    public short getShort(int field) {
+        return buffer.getShort(offset + field);
+    }
+
+    /**
+     * Returns the char at {@code field} bytes from the start of the record.
+     *
+     * @param field the offset of the field within the record
+     * @return the char value
+     */
+    public char getChar(int field) {
+        return buffer.getChar(offset + field);
+    }
+
+    /**
+     * Returns the int at {@code field} bytes from the start of the record.
+     *
+     * @param field the offset of the field within the record
+     * @return the int value
+     */
+    public int getInt(int field) {
+        return buffer.getInt(offset + field);
+    }
+
+    /**
+     * Returns the long at {@code field} bytes from the start of the record.
+     *
+     * @param field the offset of the field within the record
+     * @return the long value
+     */
+    public long getLong(int field) {
+        return buffer.getLong(offset + field);
+    }
+
+    /**
+     * Returns the float at {@code field} bytes from the start of the record.
+     *
+     * @param field the offset of the field within the record
+     * @return the float value
+     */
+    public float getFloat(int field) {
+        return buffer.getFloat(offset + field);
+    }
+
+    /**
+     * Returns the double at {@code field} bytes from the start of the record.
+     *
+     * @param field the offset of the field within the record
+     * @return the double value
+     */
+    public double getDouble(int field) {
+        return buffer.getDouble(offset + field);
+    }
+
+    /**
+     * Returns a copy of the bytes of the current record.
+     *
+     * @return a new array with the bytes of the record
+     */
+    public byte[] toByteArray() {
+        var result = new byte[size];
+        buffer.get(offset, result);
+        return result;
+    }
+}
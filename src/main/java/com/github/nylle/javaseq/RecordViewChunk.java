@@ -0,0 +1,51 @@
+package com.github.nylle.javaseq;
+
+import java.nio.ByteBuffer;
+
+class RecordViewChunk implements IChunk<RecordView> {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int end;
+    private final int recordSize;
+    private final RecordView view;
+
+    RecordViewChunk(ByteBuffer buffer, int offset, int end, int recordSize) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.end = end;
+        this.recordSize = recordSize;
+        this.view = new RecordView(buffer, offset, recordSize);
+    }
+
+    private RecordViewChunk(ByteBuffer buffer, int offset, int end, int recordSize, RecordView view) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.end = end;
+        this.recordSize = recordSize;
+        this.view = view;
+    }
+
+    @Override
+    public RecordView nth(int n) {
+        if (n < 0 || n >= count()) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return view.moveTo(offset + n * recordSize);
+    }
+
+    @Override
+    public IChunk<RecordView> dropFirst() {
+        return new RecordViewChunk(buffer, offset + recordSize, end, recordSize, view);
+    }
+
+    @Override
+    public IChunk<RecordView> dropLast(int n) {
+        return new RecordViewChunk(buffer, offset, end - n * recordSize, recordSize, view);
+    }
+
+    @Override
+    public int count() {
+        return (end - offset) / recordSize;
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.nylle.javaseq;
+
+/**
+ * An immutable {@link CharSequence} made of a balanced tree of leaves, so that {@link #concat} and {@link #charAt} take
+ * O(log n) time instead of copying all chars. Adjacent small leaves are merged while concatenating, which keeps
+ * repeated appends of short strings from producing deep trees of tiny leaves. {@link #charAt} remembers the last leaf
+ * it visited, so walking a rope from start to end reads it leaf by leaf.
+ *
+ * <p>Strings and ropes are used as leaves directly; any other CharSequence is copied when the rope is created, so
+ * later changes to a mutable source do not show through.
+ */
+public final class Rope implements CharSequence {
+
+    static final int MAX_LEAF_SIZE = 256;
+
+    private static final Rope EMPTY = new Rope("");
+
+    private final CharSequence leaf;
+    private final Rope left;
+    private final Rope right;
+    private final int length;
+    private final int depth;
+
+    private Cursor cursor;
+
+    private Rope(CharSequence leaf) {
+        this.leaf = leaf;
+        this.left = null;
+        this.right = null;
+        this.length = leaf.length();
+        this.depth = 0;
+    }
+
+    private Rope(Rope left, Rope right) {
+        this.leaf = null;
+        this.left = left;
+        this.right = right;
+        this.length = Math.addExact(left.length, right.length);
+        this.depth = Math.max(left.depth, right.depth) + 1;
+    }
+
+    /**
+     * Returns a rope of the chars in {@code s}.
+     *
+     * @param s the chars of the rope
+     * @return a rope of s
+     */
+    public static Rope of(CharSequence s) {
+        if (s instanceof Rope) {
+            return (Rope) s;
+        }
+        if (s == null || s.length() == 0) {
+            return EMPTY;
+        }
+        return new Rope(s instanceof String ? s : s.toString());
+    }
+
+    /**
+     * Returns a rope of the chars in this rope followed by the chars in {@code other}.
+     *
+     * @param other the chars to append
+     * @return a rope of this rope followed by other
+     */
+    public Rope concat(CharSequence other) {
+        return join(this, of(other));
+    }
+
+    /**
+     * Returns the depth of the tree of this rope; a rope made of a single leaf has depth 0.
+     *
+     * @return the depth of this rope
+     */
+    public int depth() {
+        return depth;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        var c = cursor;
+        if (c != null && index >= c.start && index < c.start + c.leaf.length()) {
+            return c.leaf.charAt(index - c.start);
+        }
+        var node = this;
+        var start = 0;
+        while (node.leaf == null) {
+            if (index - start < node.left.length) {
+                node = node.left;
+            } else {
+                start += node.left.length;
+                node = node.right;
+            }
+        }
+        cursor = new Cursor(node.leaf, start);
+        return node.leaf.charAt(index - start);
+    }
+
+    @Override
+    public Rope subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+        }
+        return slice(this, start, end);
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder(length);
+        appendTo(sb);
+        return sb.toString();
+    }
+
+    private void appendTo(StringBuilder sb) {
+        var node = this;
+        while (node.leaf == null) {
+            node.left.appendTo(sb);
+            node = node.right;
+        }
+        sb.append(node.leaf);
+    }
+
+    private static Rope slice(Rope node, int start, int end) {
+        if (start == 0 && end == node.length) {
+            return node;
+        }
+        if (start == end) {
+            return EMPTY;
+        }
+        if (node.leaf != null) {
+            return new Rope(new CharSlice(node.leaf, start, end - start));
+        }
+        var mid = node.left.length;
+        if (end <= mid) {
+            return slice(node.left, start, end);
+        }
+        if (start >= mid) {
+            return slice(node.right, start - mid, end - mid);
+        }
+        return join(slice(node.left, start, mid), slice(node.right, 0, end - mid));
+    }
+
+    private static Rope join(Rope a, Rope b) {
+        if (a.length == 0) {
+            return b;
+        }
+        if (b.length == 0) {
+            return a;
+        }
+        if (a.leaf != null && b.leaf != null && a.length + b.length <= MAX_LEAF_SIZE) {
+            return new Rope(new StringBuilder(a.length + b.length).append(a.leaf).append(b.leaf).toString());
+        }
+        if (a.depth > b.depth + 1) {
+            return balance(a.left, join(a.right, b));
+        }
+        if (b.depth > a.depth + 1) {
+            return balance(join(a, b.left), b.right);
+        }
+        return new Rope(a, b);
+    }
+
+    private static Rope balance(Rope l, Rope r) {
+        if (l.depth > r.depth + 1) {
+            if (l.left.depth >= l.right.depth) {
+                return new Rope(l.left, new Rope(l.right, r));
+            }
+            return new Rope(new Rope(l.left, l.right.left), new Rope(l.right.right, r));
+        }
+        if (r.depth > l.depth + 1) {
+            if (r.right.depth >= r.left.depth) {
+                return new Rope(new Rope(l, r.left), r.right);
+            }
+            return new Rope(new Rope(l, r.left.left), new Rope(r.left.right, r.right));
+        }
+        return new Rope(l, r);
+    }
+
+    private static class Cursor {
+
+        private final CharSequence leaf;
+        private final int start;
+
+        private Cursor(CharSequence leaf, int start) {
+            this.leaf = leaf;
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.nylle.javaseq;
+
+import java.util.ArrayList;
+import java.util.stream.Collector;
+
+/**
+ * Implementations of {@link Collector} that collect the items of a stream into a seq.
+ */
+public class SeqCollectors {
+
+    private SeqCollectors() {
+    }
+
+    /**
+     * Returns a collector that collects the items of a stream into a fully realized seq, in encounter order. Items are
+     * accumulated in array-backed chunks which become the chunks of the returned seq without being copied again.
+     * Partial results of parallel streams are joined in constant time.
+     *
+     * @param <T> the type of items
+     * @return a collector that collects the items of a stream into a seq
+     */
+    public static <T> Collector<T, ?, ISeq<T>> toSeq() {
+        return Collector.of(ChunkBuffer<T>::new, ChunkBuffer::add, ChunkBuffer::append, ChunkBuffer::seq);
+    }
+
+    static class ChunkBuffer<T> {
+
+        private Node head;
+        private Node tail;
+
+        void add(T x) {
+            if (tail == null || tail.n == Util.CHUNK_SIZE) {
+                var node = new Node();
+                if (tail == null) {
+                    head = node;
+                } else {
+                    tail.next = node;
+                }
+                tail = node;
+            }
+            tail.items[tail.n++] = x;
+        }
+
+        ChunkBuffer<T> append(ChunkBuffer<T> other) {
+            if (other.head == null) {
+                return this;
+            }
+            if (head == null) {
+                return other;
+            }
+            tail.next = other.head;
+            tail = other.tail;
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        ISeq<T> seq() {
+            var nodes = new ArrayList<Node>();
+            for (var node = head; node != null; node = node.next) {
+                nodes.add(node);
+            }
+            ISeq<T> result = ISeq.of();
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                var node = nodes.get(i);
+                result = new ChunkedCons<>(new ArrayChunk<>((T[]) node.items, 0, node.n), result);
+            }
+            return result;
+        }
+
+        private static class Node {
+
+            private final Object[] items = new Object[Util.CHUNK_SIZE];
+            private int n;
+            private Node next;
+        }
+    }
+}
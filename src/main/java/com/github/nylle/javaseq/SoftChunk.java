@@ -0,0 +1,115 @@
+package com.github.nylle.javaseq;
+
+import java.lang.ref.SoftReference;
+import java.util.function.Function;
+
+/**
+ * A chunk holding the result of applying a pure pipeline to a window of a source seq. The result is held through a
+ * {@link SoftReference}, so the garbage collector can drop it when memory runs low; it is then recomputed from the
+ * window on the next access. The number of items is remembered, so counting never recomputes the chunk.
+ *
+ * @param <T> the type of items in the source
+ * @param <R> the type of items in the chunk
+ */
+class SoftChunk<T, R> implements IChunk<R> {
+
+    private final Window<T, R> window;
+    private final int offset;
+    private final int end;
+
+    private SoftChunk(Window<T, R> window, int offset, int end) {
+        this.window = window;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    /**
+     * Returns a lazy seq of the items of {@code xform} applied to consecutive windows of {@code source}, one chunk per
+     * window. Windows that yield no items are skipped.
+     */
+    static <T, R> ISeq<R> seq(ISeq<T> source, Function<? super ISeq<T>, ? extends ISeq<R>> xform) {
+        return ISeq.lazySeq(() -> {
+            var rest = source;
+            while (!rest.isEmpty()) {
+                var chunk = of(rest.take(Util.CHUNK_SIZE), xform);
+                rest = rest.drop(Util.CHUNK_SIZE);
+                if (chunk.count() > 0) {
+                    return new ChunkedCons<>(chunk, seq(rest, xform));
+                }
+            }
+            return ISeq.of();
+        });
+    }
+
+    /**
+     * Returns a chunk of the items of {@code xform} applied to {@code window}.
+     */
+    static <T, R> SoftChunk<T, R> of(ISeq<T> window, Function<? super ISeq<T>, ? extends ISeq<R>> xform) {
+        var result = new Window<T, R>(window, xform);
+        return new SoftChunk<>(result, 0, result.count);
+    }
+
+    @Override
+    public R nth(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return window.items()[offset + n];
+    }
+
+    @Override
+    public IChunk<R> dropFirst() {
+        return new SoftChunk<>(window, offset + 1, end);
+    }
+
+    @Override
+    public IChunk<R> dropLast(int n) {
+        return new SoftChunk<>(window, offset, end - n);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    boolean isCached() {
+        return window.cache.get() != null;
+    }
+
+    void clearCache() {
+        window.cache.clear();
+    }
+
+    private static class Window<T, R> {
+
+        private final ISeq<T> source;
+        private final Function<? super ISeq<T>, ? extends ISeq<R>> xform;
+        private final int count;
+        private volatile SoftReference<R[]> cache;
+
+        Window(ISeq<T> source, Function<? super ISeq<T>, ? extends ISeq<R>> xform) {
+            this.source = source;
+            this.xform = xform;
+            var items = compute();
+            this.count = items.length;
+            this.cache = new SoftReference<>(items);
+        }
+
+        R[] items() {
+            var result = cache.get();
+            if (result == null) {
+                result = compute();
+                if (result.length != count) {
+                    throw new IllegalStateException("pipeline is not pure: expected " + count + " items but got " + result.length);
+                }
+                cache = new SoftReference<>(result);
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private R[] compute() {
+            return (R[]) xform.apply(source).toArray();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.github.nylle.javaseq;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A chunk whose items have been written to a temp file. The items are decoded from a read-only memory mapping of the
+ * window containing their region on first access and held through a {@link SoftReference}, so the garbage collector can drop them again when
+ * memory runs low; they are then decoded again on the next access.
+ *
+ * @param <T> the type of items in the chunk
+ */
+class SpilledChunk<T> implements IChunk<T> {
+
+    private final Region<T> region;
+    private final int offset;
+    private final int end;
+
+    private SpilledChunk(Region<T> region, int offset, int end) {
+        this.region = region;
+        this.offset = offset;
+        this.end = end;
+    }
+
+    /**
+     * Writes the first {@code count} items of {@code items} to {@code file} and returns a chunk reading them back. The
+     * array is kept as the soft cache of the chunk and must not be modified afterwards.
+     */
+    static <T> SpilledChunk<T> spill(SpillFile file, Codec<T> codec, T[] items, int count) {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            for (int i = 0; i < count; i++) {
+                codec.write(items[i], out);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        }
+        var position = file.append(ByteBuffer.wrap(bytes.toByteArray()));
+        return new SpilledChunk<>(new Region<>(file, codec, position, bytes.size(), count, items), 0, count);
+    }
+
+    @Override
+    public T nth(int n) {
+        if (n < 0 || (offset + n) >= end) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + count());
+        }
+        return region.items()[offset + n];
+    }
+
+    @Override
+    public IChunk<T> dropFirst() {
+        return new SpilledChunk<>(region, offset + 1, end);
+    }
+
+    @Override
+    public IChunk<T> dropLast(int n) {
+        return new SpilledChunk<>(region, offset, end - n);
+    }
+
+    @Override
+    public int count() {
+        return end - offset;
+    }
+
+    boolean isCached() {
+        return region.cache.get() != null;
+    }
+
+    void clearCache() {
+        region.cache.clear();
+    }
+
+    private static class Region<T> {
+
+        private final SpillFile file;
+        private final Codec<T> codec;
+        private final long position;
+        private final int length;
+        private final int count;
+        private volatile SoftReference<T[]> cache;
+
+        Region(SpillFile file, Codec<T> codec, long position, int length, int count, T[] items) {
+            this.file = file;
+            this.codec = codec;
+            this.position = position;
+            this.length = length;
+            this.count = count;
+            this.cache = new SoftReference<>(items);
+        }
+
+        @SuppressWarnings("unchecked")
+        T[] items() {
+            var result = cache.get();
+            if (result == null) {
+                result = (T[]) new Object[count];
+                var in = new DataInputStream(new ByteBufferInputStream(file.map(position, length)));
+                try {
+                    for (int i = 0; i < count; i++) {
+                        result[i] = codec.read(in);
+                    }
+                } catch (IOException ex) {
+                    throw new IllegalStateException("unexpected IO error", ex);
+                }
+                cache = new SoftReference<>(result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * An append-only temp file shared by the spilled chunks of one seq. The file is deleted once the last chunk
+     * referencing it has become unreachable, or when the JVM exits.
+     * <p>
+     * The file is mapped in windows of {@code windowSize} bytes, and regions are sliced from their window, so decoding a
+     * chunk again does not map a new region each time. A region is never appended across the boundary of two windows
+     * unless it is larger than a window, in which case it is mapped on its own. A window is mapped again only if a
+     * region that was appended after its last mapping is read.
+     */
+    static class SpillFile {
+
+        private static final Cleaner CLEANER = Cleaner.create();
+        private static final int WINDOW_SIZE = 1 << 26;
+
+        private final FileChannel channel;
+        private final int windowSize;
+        private final List<MappedByteBuffer> windows = new ArrayList<>();
+        private long size;
+        private int mappings;
+
+        SpillFile() {
+            this(WINDOW_SIZE);
+        }
+
+        SpillFile(int windowSize) {
+            this.windowSize = windowSize;
+            try {
+                var path = Files.createTempFile("javaseq-", ".spill");
+                channel = FileChannel.open(path,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+            var channel = this.channel;
+            CLEANER.register(this, () -> {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // the file is deleted on exit at the latest
+                }
+            });
+        }
+
+        synchronized long append(ByteBuffer bytes) {
+            var free = windowSize - (size % windowSize);
+            if (bytes.remaining() > free && bytes.remaining() <= windowSize) {
+                size += free;
+            }
+            var position = size;
+            try {
+                while (bytes.hasRemaining()) {
+                    size += channel.write(bytes, size);
+                }
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+            return position;
+        }
+
+        synchronized ByteBuffer map(long position, int length) {
+            var index = (int) (position / windowSize);
+            var start = (long) index * windowSize;
+            if (position + length > start + windowSize) {
+                return map(position, (long) length);
+            }
+            while (windows.size() <= index) {
+                windows.add(null);
+            }
+            var window = windows.get(index);
+            if (window == null || position + length > start + window.capacity()) {
+                window = map(start, Math.min(windowSize, size - start));
+                windows.set(index, window);
+            }
+            return window.slice((int) (position - start), length);
+        }
+
+        int mappings() {
+            return mappings;
+        }
+
+        private MappedByteBuffer map(long position, long length) {
+            mappings++;
+            try {
+                return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            var n = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, n);
+            return n;
+        }
+    }
+}
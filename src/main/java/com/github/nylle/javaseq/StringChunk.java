@@ -34,4 +34,8 @@ public class StringChunk implements IChunk<Character> {
     public int count() {
         return end - offset;
     }
+
+    public CharSlice slice() {
+        return new CharSlice(str, offset, end - offset);
+    }
 }
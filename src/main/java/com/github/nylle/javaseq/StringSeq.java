@@ -5,9 +5,12 @@ import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 public class StringSeq extends ASeq<Character> implements ISeq<Character> {
 
+    private static final StringSeq EMPTY = new StringSeq();
+
     private final CharSequence str;
     private final int index;
     private final int end;
@@ -32,14 +35,30 @@ public class StringSeq extends ASeq<Character> implements ISeq<Character> {
         this.count = end - index;
     }
 
+    private StringSeq() {
+        this.str = "";
+        this.index = 0;
+        this.end = 0;
+        this.count = 0;
+    }
+
+    static StringSeq empty() {
+        return EMPTY;
+    }
+
     @Override
     public Character first() {
-        return str.charAt(index);
+        return count > 0 ? str.charAt(index) : null;
     }
 
     @Override
     public Character last() {
-        return str.charAt(end-1);
+        return count > 0 ? str.charAt(end-1) : null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
     }
 
     @Override
@@ -152,8 +171,265 @@ public class StringSeq extends ASeq<Character> implements ISeq<Character> {
         return count;
     }
 
+    public CharSlice slice() {
+        return new CharSlice(str, index, count);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Character) {
+            return indexOf((char) (Character) o);
+        }
+        return super.indexOf(o);
+    }
+
+    public char firstChar() {
+        return nthChar(0);
+    }
+
+    public char nthChar(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + count);
+        }
+        return str.charAt(i + index);
+    }
+
+    public ISeq<Character> filterChars(CharPredicate pred) {
+        return filterChars(index, pred);
+    }
+
+    private ISeq<Character> filterChars(int from, CharPredicate pred) {
+        return ISeq.lazySeq(() -> {
+            var i = from;
+            while (i < end) {
+                var chunkEnd = Math.min(end, i + Util.CHUNK_SIZE);
+                var acc = new char[chunkEnd - i];
+                var n = 0;
+                for (; i < chunkEnd; i++) {
+                    var c = str.charAt(i);
+                    if (pred.test(c)) {
+                        acc[n++] = c;
+                    }
+                }
+                if (n > 0) {
+                    return new ChunkedCons<>(new CharChunk(acc, 0, n), i < end ? filterChars(i, pred) : ISeq.of());
+                }
+            }
+            return ISeq.<Character>of();
+        });
+    }
+
+    public ISeq<Character> mapChars(CharUnaryOperator f) {
+        if (count == 0) {
+            return ISeq.of();
+        }
+        return mapChars(index, f);
+    }
+
+    private ISeq<Character> mapChars(int from, CharUnaryOperator f) {
+        return ISeq.lazySeq(() -> {
+            var chunkEnd = Math.min(end, from + Util.CHUNK_SIZE);
+            var acc = new char[chunkEnd - from];
+            for (int i = from; i < chunkEnd; i++) {
+                acc[i - from] = f.apply(str.charAt(i));
+            }
+            return new ChunkedCons<>(new CharChunk(acc, 0, acc.length), chunkEnd < end ? mapChars(chunkEnd, f) : ISeq.of());
+        });
+    }
+
+    public <U> U reduceChars(U val, CharBiFunction<U> f) {
+        var result = val;
+        for (int i = index; i < end; i++) {
+            result = f.apply(result, str.charAt(i));
+        }
+        return result;
+    }
+
+    public boolean someChar(CharPredicate pred) {
+        for (int i = index; i < end; i++) {
+            if (pred.test(str.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean everyChar(CharPredicate pred) {
+        for (int i = index; i < end; i++) {
+            if (!pred.test(str.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int indexOf(char c) {
+        for (int i = index; i < end; i++) {
+            if (str.charAt(i) == c) {
+                return i - index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOfSubseq(Iterable<?> coll) {
+        var pattern = ISeq.seq(coll).toArray();
+        var sb = new StringBuilder(pattern.length);
+        for (var x : pattern) {
+            if (!(x instanceof Character)) {
+                return -1;
+            }
+            sb.append((char) (Character) x);
+        }
+        return indexOfSubseq(sb);
+    }
+
+    public int indexOfSubseq(CharSequence s) {
+        var m = s.length();
+        if (m == 0) {
+            return 0;
+        }
+        if (m > count) {
+            return -1;
+        }
+        if (m == 1) {
+            return indexOf(s.charAt(0));
+        }
+        var i = new Horspool(s.toString()).indexIn(str, index, end);
+        return i < 0 ? -1 : i - index;
+    }
+
+    public boolean containsSubseq(CharSequence s) {
+        return indexOfSubseq(s) >= 0;
+    }
+
+    private boolean matches(int i, String needle, int length) {
+        for (int j = 0; j < length; j++) {
+            if (str.charAt(i + j) != needle.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int countChars(char c) {
+        var result = 0;
+        for (int i = index; i < end; i++) {
+            if (str.charAt(i) == c) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    public int countChars(CharPredicate pred) {
+        var result = 0;
+        for (int i = index; i < end; i++) {
+            if (pred.test(str.charAt(i))) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    public ISeq<CharSequence> split(char separator) {
+        return split(index, separator);
+    }
+
+    private ISeq<CharSequence> split(int from, char separator) {
+        return ISeq.lazySeq(() -> {
+            var acc = new CharSequence[Util.CHUNK_SIZE];
+            var n = 0;
+            var start = from;
+            for (int i = from; i < end && n < acc.length; i++) {
+                if (str.charAt(i) == separator) {
+                    acc[n++] = new CharSlice(str, start, i - start);
+                    start = i + 1;
+                }
+            }
+            if (n < acc.length) {
+                acc[n++] = new CharSlice(str, start, end - start);
+                return new ChunkedCons<>(new ArrayChunk<>(acc, 0, n), ISeq.of());
+            }
+            return new ChunkedCons<>(new ArrayChunk<>(acc, 0, n), split(start, separator));
+        });
+    }
+
+    public ISeq<CharSequence> split(CharSequence delimiter) {
+        if (delimiter == null || delimiter.isEmpty()) {
+            throw new IllegalArgumentException("delimiter is null or empty");
+        }
+        if (delimiter.length() == 1) {
+            return split(delimiter.charAt(0));
+        }
+        return split(index, delimiter.toString());
+    }
+
+    private ISeq<CharSequence> split(int from, String delimiter) {
+        return ISeq.lazySeq(() -> {
+            var acc = new CharSequence[Util.CHUNK_SIZE];
+            var n = 0;
+            var start = from;
+            var first = delimiter.charAt(0);
+            var last = end - delimiter.length();
+            for (int i = from; i <= last && n < acc.length; i++) {
+                if (str.charAt(i) == first && matches(i, delimiter, delimiter.length())) {
+                    acc[n++] = new CharSlice(str, start, i - start);
+                    start = i + delimiter.length();
+                    i = start - 1;
+                }
+            }
+            if (n < acc.length) {
+                acc[n++] = new CharSlice(str, start, end - start);
+                return new ChunkedCons<>(new ArrayChunk<>(acc, 0, n), ISeq.of());
+            }
+            return new ChunkedCons<>(new ArrayChunk<>(acc, 0, n), split(start, delimiter));
+        });
+    }
+
+    public ISeq<CharSequence> splitLines() {
+        return splitLines(index);
+    }
+
+    private ISeq<CharSequence> splitLines(int from) {
+        return ISeq.lazySeq(() -> {
+            var acc = new CharSequence[Util.CHUNK_SIZE];
+            var n = 0;
+            var start = from;
+            for (int i = from; i < end && n < acc.length; i++) {
+                var c = str.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    acc[n++] = new CharSlice(str, start, i - start);
+                    if (c == '\r' && i + 1 < end && str.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                    start = i + 1;
+                }
+            }
+            if (n < acc.length) {
+                if (start < end) {
+                    acc[n++] = new CharSlice(str, start, end - start);
+                }
+                return n == 0 ? ISeq.<CharSequence>of() : new ChunkedCons<>(new ArrayChunk<>(acc, 0, n), ISeq.of());
+            }
+            return new ChunkedCons<>(new ArrayChunk<>(acc, 0, n), start < end ? splitLines(start) : ISeq.of());
+        });
+    }
+
+    public ISeq<MatchSlice> reSeq(Pattern re) {
+        return ISeq.lazySeq(() -> Util.matchSeq(re.matcher(str).region(index, end), m -> new MatchSlice(str, index, m)));
+    }
+
+    public ISeq<CharSlice> reSliceSeq(Pattern re) {
+        return ISeq.lazySeq(() -> Util.matchSeq(re.matcher(str).region(index, end), m -> new CharSlice(str, m.start(), m.end() - m.start())));
+    }
+
     @Override
     public ISeq<Character> reverse() {
+        if (count == 0) {
+            return this;
+        }
         return new StringSeq(new StringBuilder(str.subSequence(index, end)).reverse().toString(), 0, end-index);
     }
 
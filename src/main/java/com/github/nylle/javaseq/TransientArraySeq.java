@@ -0,0 +1,97 @@
+package com.github.nylle.javaseq;
+
+import java.util.Arrays;
+
+/**
+ * A mutable builder for array-backed seqs. Items are appended to a growing array which is adopted by the seq returned
+ * from {@link #persistent()} without being copied. Any further use of the transient throws an
+ * {@code IllegalStateException}.
+ * <p>
+ * Transients are not thread-safe and must not be shared between threads while being built.
+ *
+ * @param <T> the type of items in the seq
+ */
+public class TransientArraySeq<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private T[] array;
+    private int count;
+    private boolean editable = true;
+
+    @SuppressWarnings("unchecked")
+    TransientArraySeq(int capacity) {
+        this.array = (T[]) new Object[Math.max(capacity, 1)];
+    }
+
+    TransientArraySeq() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Appends {@code x} to this transient.
+     *
+     * @param x the item to append
+     * @return this transient
+     */
+    public TransientArraySeq<T> conj(T x) {
+        ensureEditable();
+        if (count == array.length) {
+            array = Arrays.copyOf(array, newCapacity(count + 1));
+        }
+        array[count++] = x;
+        return this;
+    }
+
+    /**
+     * Appends all items in {@code coll} to this transient.
+     *
+     * @param coll the items to append
+     * @return this transient
+     */
+    public TransientArraySeq<T> conjAll(Iterable<? extends T> coll) {
+        ensureEditable();
+        for (T x : coll) {
+            conj(x);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of items in this transient.
+     *
+     * @return the number of items in this transient
+     */
+    public int count() {
+        ensureEditable();
+        return count;
+    }
+
+    /**
+     * Returns a seq of all items in this transient, in constant time. The transient must not be used afterwards.
+     *
+     * @return a seq of all items in this transient
+     */
+    public ISeq<T> persistent() {
+        ensureEditable();
+        editable = false;
+        if (count == 0) {
+            return Util.nil();
+        }
+        return new ArraySeq<>(array, 0, count);
+    }
+
+    private int newCapacity(int minCapacity) {
+        int capacity = array.length + (array.length >> 1);
+        if (capacity - minCapacity < 0) {
+            return minCapacity;
+        }
+        return capacity < 0 ? Integer.MAX_VALUE - 8 : capacity;
+    }
+
+    private void ensureEditable() {
+        if (!editable) {
+            throw new IllegalStateException("transient used after persistent() call");
+        }
+    }
+}
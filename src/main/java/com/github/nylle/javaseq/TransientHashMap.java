@@ -0,0 +1,114 @@
+package com.github.nylle.javaseq;
+
+/**
+ * A mutable hash map for building a {@link PersistentHashMap} in bulk. Nodes created by this transient are updated in
+ * place instead of being copied on every change. Calling {@link #persistent()} freezes the transient in constant time;
+ * any further use of the transient throws an {@code IllegalStateException}.
+ * <p>
+ * Transients are not thread-safe and must not be shared between threads while being built.
+ *
+ * @param <K> the type of keys in the map
+ * @param <V> the type of values in the map
+ */
+public class TransientHashMap<K, V> {
+
+    private final PersistentHashMap.Box addedLeaf = new PersistentHashMap.Box();
+
+    private Object edit;
+    private int count;
+    private PersistentHashMap.Node root;
+    private boolean hasNull;
+    private V nullValue;
+
+    TransientHashMap(int count, PersistentHashMap.Node root, boolean hasNull, V nullValue) {
+        this.edit = new Object();
+        this.count = count;
+        this.root = root;
+        this.hasNull = hasNull;
+        this.nullValue = nullValue;
+    }
+
+    /**
+     * Adds the mapping of {@code key} to {@code val} to this transient, replacing any previous mapping of {@code key}.
+     *
+     * @param key the key
+     * @param val the value
+     * @return this transient
+     */
+    public TransientHashMap<K, V> assoc(K key, V val) {
+        ensureEditable();
+        if (key == null) {
+            if (!hasNull) {
+                count++;
+            }
+            hasNull = true;
+            nullValue = val;
+            return this;
+        }
+        addedLeaf.added = false;
+        root = (root == null ? PersistentHashMap.BitmapNode.EMPTY : root)
+                .assoc(edit, 0, PersistentHashMap.hash(key), key, val, addedLeaf);
+        if (addedLeaf.added) {
+            count++;
+        }
+        return this;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is no such mapping.
+     *
+     * @param key the key
+     * @return the value mapped to key, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        var result = find(key);
+        return result == PersistentHashMap.NOT_FOUND ? null : (V) result;
+    }
+
+    /**
+     * Returns true if this transient contains a mapping for {@code key}.
+     *
+     * @param key the key
+     * @return true if this transient contains a mapping for key
+     */
+    public boolean containsKey(Object key) {
+        return find(key) != PersistentHashMap.NOT_FOUND;
+    }
+
+    /**
+     * Returns the number of mappings in this transient.
+     *
+     * @return the number of mappings in this transient
+     */
+    public int count() {
+        ensureEditable();
+        return count;
+    }
+
+    /**
+     * Returns a persistent map with all mappings of this transient, in constant time. The transient must not be used
+     * afterwards.
+     *
+     * @return a persistent map with all mappings of this transient
+     */
+    public PersistentHashMap<K, V> persistent() {
+        ensureEditable();
+        edit = null;
+        return new PersistentHashMap<>(count, root, hasNull, nullValue);
+    }
+
+    private Object find(Object key) {
+        ensureEditable();
+        if (key == null) {
+            return hasNull ? nullValue : PersistentHashMap.NOT_FOUND;
+        }
+        return root == null ? PersistentHashMap.NOT_FOUND : root.find(0, PersistentHashMap.hash(key), key);
+    }
+
+    private void ensureEditable() {
+        if (edit == null) {
+            throw new IllegalStateException("transient used after persistent() call");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.nylle.javaseq;
+
+/**
+ * A mutable hash set for building a {@link PersistentHashSet} in bulk. Calling {@link #persistent()} freezes the
+ * transient in constant time; any further use of the transient throws an {@code IllegalStateException}.
+ * <p>
+ * Transients are not thread-safe and must not be shared between threads while being built.
+ *
+ * @param <T> the type of items in the set
+ */
+public class TransientHashSet<T> {
+
+    private final TransientHashMap<T, T> impl;
+
+    TransientHashSet(TransientHashMap<T, T> impl) {
+        this.impl = impl;
+    }
+
+    /**
+     * Adds {@code x} to this transient.
+     *
+     * @param x the item to add
+     * @return this transient
+     */
+    public TransientHashSet<T> conj(T x) {
+        impl.assoc(x, x);
+        return this;
+    }
+
+    /**
+     * Returns true if this transient contains {@code x}.
+     *
+     * @param x the item to look for
+     * @return true if this transient contains x
+     */
+    public boolean contains(Object x) {
+        return impl.containsKey(x);
+    }
+
+    /**
+     * Returns the number of items in this transient.
+     *
+     * @return the number of items in this transient
+     */
+    public int count() {
+        return impl.count();
+    }
+
+    /**
+     * Returns a persistent set with all items of this transient, in constant time. The transient must not be used
+     * afterwards.
+     *
+     * @return a persistent set with all items of this transient
+     */
+    public PersistentHashSet<T> persistent() {
+        return new PersistentHashSet<>(impl.persistent());
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.nylle.javaseq;
+
+/**
+ * A mutable builder for seqs of characters. Characters are appended to a buffer which is adopted by the seq returned
+ * from {@link #persistent()} without being copied. Any further use of the transient throws an
+ * {@code IllegalStateException}.
+ * <p>
+ * Transients are not thread-safe and must not be shared between threads while being built.
+ */
+public class TransientStringSeq {
+
+    private StringBuilder buffer;
+
+    TransientStringSeq(int capacity) {
+        this.buffer = new StringBuilder(capacity);
+    }
+
+    TransientStringSeq() {
+        this.buffer = new StringBuilder();
+    }
+
+    /**
+     * Appends {@code c} to this transient.
+     *
+     * @param c the character to append
+     * @return this transient
+     */
+    public TransientStringSeq conj(char c) {
+        ensureEditable();
+        buffer.append(c);
+        return this;
+    }
+
+    /**
+     * Appends all characters in {@code s} to this transient.
+     *
+     * @param s the characters to append
+     * @return this transient
+     */
+    public TransientStringSeq conj(CharSequence s) {
+        ensureEditable();
+        buffer.append(s);
+        return this;
+    }
+
+    /**
+     * Returns the number of characters in this transient.
+     *
+     * @return the number of characters in this transient
+     */
+    public int count() {
+        ensureEditable();
+        return buffer.length();
+    }
+
+    /**
+     * Returns a seq of all characters in this transient, in constant time. The transient must not be used afterwards.
+     *
+     * @return a seq of all characters in this transient
+     */
+    public ISeq<Character> persistent() {
+        ensureEditable();
+        var result = buffer;
+        buffer = null;
+        if (result.length() == 0) {
+            return Util.nil();
+        }
+        return new StringSeq(result, 0, result.length());
+    }
+
+    private void ensureEditable() {
+        if (buffer == null) {
+            throw new IllegalStateException("transient used after persistent() call");
+        }
+    }
+}
@@ -3,15 +3,33 @@ package com.github.nylle.javaseq;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.StreamSupport;
 
 public class Util {
 
@@ -26,6 +44,30 @@ public class Util {
         return new Cons<>(x, ISeq.seq(seq));
     }
 
+    public static <T> ISeq<T> chunkedCons(IChunk<T> chunk, ISeq<T> rest) {
+        if (chunk.count() == 0) {
+            return rest;
+        }
+        return new ChunkedCons<>(chunk, rest);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ISeq<IChunk<T>> chunkSeq(ISeq<T> seq) {
+        return lazySeq(() -> {
+            var s = seq;
+            while (s instanceof LazySeq<T> lazy) {
+                s = lazy.seq();
+            }
+            if (s.isEmpty()) {
+                return nil();
+            }
+            if (s instanceof ChunkedCons<T> chunked) {
+                return cons(chunked.chunkedFirst(), chunkSeq(chunked.chunkedMore()));
+            }
+            return cons(new ArrayChunk<>((T[]) new Object[]{s.first()}), chunkSeq(s.rest()));
+        });
+    }
+
     public static <T> ISeq<T> lazySeq(Supplier<ISeq<T>> f) {
         return new LazySeq<>(f);
     }
@@ -35,11 +77,54 @@ public class Util {
         return nil();
     }
 
-    public static ISeq<Character> stringSeq(CharSequence coll) {
+    public static <T> ISeq<T> listSeq(List<T> list) {
+        if (list != null && !list.isEmpty()) return new ListSeq<>(list, 0, list.size());
+        return nil();
+    }
+
+    // the classes of the unmodifiable lists returned by List.of, List.copyOf, Stream.toList and their subLists
+    private static final Set<Class<?>> IMMUTABLE_LISTS = Set.copyOf(List.of(
+            List.of().getClass(),
+            List.of(1).getClass(),
+            List.of(1, 2, 3).getClass(),
+            List.of(1, 2, 3).subList(0, 2).getClass()));
+
+    static boolean isImmutableList(Iterable<?> coll) {
+        return coll instanceof RandomAccess && IMMUTABLE_LISTS.contains(coll.getClass());
+    }
+
+    static final int BULK_COPY_LIMIT = 1024;
+
+    static boolean isBulkCopyable(Iterable<?> coll) {
+        return coll instanceof List<?> list
+                && list.size() <= BULK_COPY_LIMIT
+                && !list.spliterator().hasCharacteristics(Spliterator.CONCURRENT);
+    }
+
+    public static StringSeq stringSeq(CharSequence coll) {
+        if (coll == null || coll.isEmpty()) {
+            return StringSeq.empty();
+        }
         return new StringSeq(coll, 0, coll.length());
     }
 
-    private static final int CHUNK_SIZE = 32;
+    public static <T> TransientArraySeq<T> transientArraySeq() {
+        return new TransientArraySeq<>();
+    }
+
+    public static <T> TransientArraySeq<T> transientArraySeq(int capacity) {
+        return new TransientArraySeq<>(capacity);
+    }
+
+    public static TransientStringSeq transientStringSeq() {
+        return new TransientStringSeq();
+    }
+
+    public static TransientStringSeq transientStringSeq(int capacity) {
+        return new TransientStringSeq(capacity);
+    }
+
+    static final int CHUNK_SIZE = 32;
     public static <T> ISeq<T> chunkIteratorSeq(final Iterator<T> iterator) {
         if (iterator.hasNext()) {
             return lazySeq(() -> {
@@ -54,24 +139,336 @@ public class Util {
         return nil();
     }
 
+    public static <T> ISeq<T> chunkIteratorSeq(Iterator<T> iterator, Codec<T> codec, int memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("memoryBudget must not be negative");
+        }
+        return spillingIteratorSeq(iterator, codec, memoryBudget, null);
+    }
+
+    private static <T> ISeq<T> spillingIteratorSeq(Iterator<T> iterator, Codec<T> codec, int budget, SpilledChunk.SpillFile file) {
+        if (iterator.hasNext()) {
+            return lazySeq(() -> {
+                T[] arr = (T[]) new Object[CHUNK_SIZE];
+                int n = 0;
+                while (iterator.hasNext() && n < CHUNK_SIZE) {
+                    arr[n++] = iterator.next();
+                }
+                if (n <= budget) {
+                    return new ChunkedCons<>(new ArrayChunk<>(arr, 0, n), spillingIteratorSeq(iterator, codec, budget - n, file));
+                }
+                var spillFile = file == null ? new SpilledChunk.SpillFile() : file;
+                return new ChunkedCons<>(SpilledChunk.spill(spillFile, codec, arr, n), spillingIteratorSeq(iterator, codec, 0, spillFile));
+            });
+        }
+        return nil();
+    }
+
+    public static <T> ISeq<T> spliteratorSeq(Spliterator<T> spliterator, boolean parallel) {
+        var size = spliterator.getExactSizeIfKnown();
+        if (size == 0) {
+            return nil();
+        }
+        if (size > 0 && size < Integer.MAX_VALUE - 8) {
+            return lazySeq(() -> {
+                if (parallel) {
+                    return arraySeq((T[]) StreamSupport.stream(spliterator, true).toArray());
+                }
+                var filler = new ChunkFiller<T>((int) size);
+                spliterator.forEachRemaining(filler);
+                return filler.n == 0 ? nil() : new ArraySeq<>(filler.array, 0, filler.n);
+            });
+        }
+        return chunkSpliteratorSeq(spliterator);
+    }
+
+    private static <T> ISeq<T> chunkSpliteratorSeq(Spliterator<T> spliterator) {
+        var filler = new ChunkFiller<T>(CHUNK_SIZE);
+        if (spliterator.tryAdvance(filler)) {
+            return lazySeq(() -> {
+                while (filler.n < CHUNK_SIZE && spliterator.tryAdvance(filler)) {
+                    // filled by the consumer
+                }
+                return new ChunkedCons<>(new ArrayChunk<>(filler.array, 0, filler.n), chunkSpliteratorSeq(spliterator));
+            });
+        }
+        return nil();
+    }
+
+    private static class ChunkFiller<T> implements Consumer<T> {
+
+        private final T[] array;
+        private int n;
+
+        @SuppressWarnings("unchecked")
+        ChunkFiller(int size) {
+            this.array = (T[]) new Object[size];
+        }
+
+        @Override
+        public void accept(T x) {
+            array[n++] = x;
+        }
+    }
+
     private static final int BUFFER_SIZE = 8192;
     public static ISeq<Character> chunkInputStreamSeq(FileInputStream in, Charset charset) {
-        try {
-            if (in.available() > 0) {
-                return lazySeq(() -> {
-                    try {
-                        byte[] bytes = new byte[BUFFER_SIZE];
-                        int end = in.read(bytes);
-                        return new ChunkedCons<>(new StringChunk(new String(bytes, charset), 0, end), chunkInputStreamSeq(in, charset));
-                    } catch (IOException ex) {
-                        throw new IllegalStateException("unexpected IO error", ex);
+        return chunkChannelSeq(in.getChannel(), charset);
+    }
+
+    public static ISeq<Character> chunkChannelSeq(ReadableByteChannel channel, Charset charset) {
+        return chunkDecoderSeq(new ChannelDecoder(channel, charset, BUFFER_SIZE));
+    }
+
+    static ISeq<Character> chunkDecoderSeq(ChannelDecoder decoder) {
+        return lazySeq(() -> {
+            try {
+                var chars = decoder.next();
+                if (chars == null) {
+                    return nil();
+                }
+                return new ChunkedCons<>(new StringChunk(chars, 0, chars.length()), chunkDecoderSeq(decoder));
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+        });
+    }
+
+    public static ISeq<Character> readAheadChannelSeq(ReadableByteChannel channel, Charset charset) {
+        var decoder = new ChannelDecoder(channel, charset, BUFFER_SIZE);
+        return lazySeq(() -> readAheadSeq(new ReadAhead<>(decoder::next)));
+    }
+
+    private static ISeq<Character> readAheadSeq(ReadAhead<CharBuffer> readAhead) {
+        return lazySeq(() -> {
+            try {
+                var chars = readAhead.next();
+                if (chars == null) {
+                    return nil();
+                }
+                return new ChunkedCons<>(new StringChunk(chars, 0, chars.length()), readAheadSeq(readAhead));
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public static ISeq<String> lineSeq(Path path, Charset charset) {
+        return (ISeq<String>) (ISeq<?>) lineSeq(path, charset, false);
+    }
+
+    public static ISeq<CharSequence> lineSliceSeq(Path path, Charset charset) {
+        return lineSeq(path, charset, true);
+    }
+
+    private static ISeq<CharSequence> lineSeq(Path path, Charset charset, boolean slices) {
+        return lazySeq(() -> {
+            try {
+                return lineSeq(new LineSplitter(FileChannel.open(path, StandardOpenOption.READ), charset, BUFFER_SIZE, slices));
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+        });
+    }
+
+    static ISeq<CharSequence> lineSeq(LineSplitter splitter) {
+        return lazySeq(() -> {
+            try {
+                var lines = splitter.next();
+                if (lines == null) {
+                    return nil();
+                }
+                return new ChunkedCons<>(new ArrayChunk<>(lines), lineSeq(splitter));
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+        });
+    }
+
+    public static ISeq<MatchSlice> reSeq(Pattern re, CharSequence s) {
+        return lazySeq(() -> matchSeq(re.matcher(s), m -> new MatchSlice(s, 0, m)));
+    }
+
+    public static ISeq<CharSlice> reSliceSeq(Pattern re, CharSequence s) {
+        return lazySeq(() -> matchSeq(re.matcher(s), m -> new CharSlice(s, m.start(), m.end() - m.start())));
+    }
+
+    public static ISeq<MatchSlice> reSeq(Pattern re, ISeq<Character> chars) {
+        if (chars instanceof StringSeq stringSeq) {
+            return stringSeq.reSeq(re);
+        }
+        return lazySeq(() -> matchSeq(new ChunkMatcher(re, chars)));
+    }
+
+    public static ISeq<CharSlice> reSliceSeq(Pattern re, ISeq<Character> chars) {
+        return reSeq(re, chars).map(MatchSlice::slice);
+    }
+
+    static ISeq<MatchSlice> matchSeq(ChunkMatcher matcher) {
+        return lazySeq(() -> {
+            var matches = matcher.next();
+            if (matches == null) {
+                return nil();
+            }
+            return new ChunkedCons<>(new ArrayChunk<>(matches), matchSeq(matcher));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R> ISeq<R> matchSeq(Matcher matcher, Function<? super Matcher, ? extends R> f) {
+        return lazySeq(() -> {
+            var acc = (R[]) new Object[CHUNK_SIZE];
+            var n = 0;
+            while (n < acc.length && matcher.find()) {
+                acc[n++] = f.apply(matcher);
+            }
+            if (n == 0) {
+                return nil();
+            }
+            return new ChunkedCons<>(new ArrayChunk<>(acc, 0, n), n < acc.length ? nil() : matchSeq(matcher, f));
+        });
+    }
+
+    public static ByteSeq byteSeq(ByteBuffer buffer) {
+        if (buffer != null && buffer.hasRemaining()) {
+            var bytes = buffer.slice();
+            return new ByteSeq(bytes, 0, bytes.limit());
+        }
+        return ByteSeq.empty();
+    }
+
+    public static ISeq<Byte> chunkByteSeq(InputStream in) {
+        return chunkByteSeq(Channels.newChannel(in));
+    }
+
+    public static ISeq<Byte> chunkByteSeq(ReadableByteChannel channel) {
+        return lazySeq(() -> {
+            try {
+                var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                var eof = false;
+                while (buffer.hasRemaining()) {
+                    var n = channel.read(buffer);
+                    if (n < 0) {
+                        eof = true;
+                        break;
                     }
-                });
+                    if (n == 0) {
+                        if (buffer.position() > 0) {
+                            break;
+                        }
+                        awaitReadable(channel);
+                    }
+                }
+                if (buffer.position() == 0) {
+                    return nil();
+                }
+                var rest = eof ? Util.<Byte>nil() : chunkByteSeq(channel);
+                return new ChunkedCons<>(new ByteChunk(buffer, 0, buffer.position()), rest);
+            } catch (IOException ex) {
+                throw new IllegalStateException("unexpected IO error", ex);
+            }
+        });
+    }
+
+    private static void awaitReadable(ReadableByteChannel channel) throws IOException {
+        if (channel instanceof SelectableChannel selectable && !selectable.isBlocking()) {
+            try (var selector = Selector.open()) {
+                selectable.register(selector, SelectionKey.OP_READ);
+                selector.select();
             }
+        } else {
+            Thread.onSpinWait();
+        }
+    }
+
+    public static ByteSeq mappedByteSeq(Path path) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("file " + path + " is too large for a ByteSeq: " + size + " bytes");
+            }
+            return byteSeq(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        }
+    }
+
+    public static <R> ISeq<R> recordSeq(Path path, int recordSize, RecordDecoder<? extends R> decoder) {
+        return recordSeq(path, recordSize, ByteOrder.BIG_ENDIAN, decoder);
+    }
+
+    public static <R> ISeq<R> recordSeq(Path path, int recordSize, ByteOrder order, RecordDecoder<? extends R> decoder) {
+        return recordSeq(path, recordSize, order, decoder, Integer.MAX_VALUE);
+    }
+
+    static <R> ISeq<R> recordSeq(Path path, int recordSize, ByteOrder order, RecordDecoder<? extends R> decoder, int maxSegmentSize) {
+        if (recordSize <= 0 || recordSize > maxSegmentSize) {
+            throw new IllegalArgumentException("recordSize must be greater than 0 and at most " + maxSegmentSize);
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = channel.size();
+            if (size % recordSize != 0) {
+                throw new IllegalArgumentException("size " + size + " of file " + path + " is not a multiple of recordSize " + recordSize);
+            }
+            var records = size / recordSize;
+            if (records == 0) {
+                return ISeq.of();
+            }
+            var recordsPerSegment = maxSegmentSize / recordSize;
+            var segments = new ByteBuffer[(int) ((records + recordsPerSegment - 1) / recordsPerSegment)];
+            for (int i = 0; i < segments.length; i++) {
+                var position = (long) i * recordsPerSegment * recordSize;
+                var length = Math.min((long) recordsPerSegment * recordSize, size - position);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(order);
+            }
+            return new RecordSeq<>(segments, recordsPerSegment, recordSize, decoder, 0, records);
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        }
+    }
+
+    public static ISeq<Character> decode(ISeq<Byte> bytes, Charset charset) {
+        return lazySeq(() -> chunkDecoderSeq(new ChannelDecoder(new ByteSeqChannel(bytes), charset, BUFFER_SIZE)));
+    }
+
+    private static final int MAPPED_WINDOW_SIZE = Integer.MAX_VALUE;
+    public static MappedCharSequence mappedCharSequence(Path path) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = channel.size();
+            if (size > MAPPED_WINDOW_SIZE) {
+                throw new IllegalArgumentException("file " + path + " is too large for a CharSequence: " + size + " bytes");
+            }
+            return new MappedCharSequence(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), 0, (int) size);
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        }
+    }
+
+    public static ISeq<Character> mappedStringSeq(Path path) {
+        return mappedStringSeq(path, MAPPED_WINDOW_SIZE);
+    }
+
+    static ISeq<Character> mappedStringSeq(Path path, int windowSize) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = channel.size();
+            if (size == 0) {
+                return nil();
+            }
+            if (size <= windowSize) {
+                var chars = new MappedCharSequence(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), 0, (int) size);
+                return new StringSeq(chars, 0, chars.length());
+            }
+            var windows = new MappedCharSequence[(int) ((size - 1) / windowSize + 1)];
+            for (int i = 0; i < windows.length; i++) {
+                var position = (long) i * windowSize;
+                var length = (int) Math.min(windowSize, size - position);
+                windows[i] = new MappedCharSequence(channel.map(FileChannel.MapMode.READ_ONLY, position, length), 0, length);
+            }
+            return new MappedStringSeq(windows, windowSize, 0, size);
         } catch (IOException ex) {
             throw new IllegalStateException("unexpected IO error", ex);
         }
-        return nil();
     }
 
     public static <T> ISeq<T> concat(Iterator<? extends T> iterator, ISeq<T> seq) {
@@ -85,26 +482,79 @@ public class Util {
 
     @SafeVarargs
     public static <T> Set<T> conj(Set<T> coll, T... xs) {
-        var result = new HashSet<>(coll);
-        result.addAll(Arrays.asList(xs));
-        return Set.copyOf(result);
+        var result = coll instanceof PersistentHashSet<T> persistentHashSet
+                ? persistentHashSet
+                : PersistentHashSet.from(Set.copyOf(coll));
+        for (T x : xs) {
+            result = result.conj(Objects.requireNonNull(x));
+        }
+        return result;
     }
 
     @SafeVarargs
     public static <T> List<T> conj(List<T> coll, T... xs) {
-        var result = new ArrayList<>(coll);
-        result.addAll(Arrays.asList(xs));
-        return List.copyOf(result);
+        return PersistentArrayList.<T>from(coll).conj(xs);
     }
 
     public static BiFunction<Integer, Character, Integer> toOutputStream(FileOutputStream outputStream, Charset charset) {
         return (a, b) -> {
             try {
-                outputStream.write(charset.encode(b.toString()).array());
+                var bytes = charset.encode(b.toString());
+                outputStream.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
                 return a + 1;
             } catch (IOException ex) {
                 throw new IllegalStateException("unexpected IO error", ex);
             }
         };
     }
+
+    public static long writeChars(ISeq<Character> seq, WritableByteChannel channel, Charset charset) {
+        try {
+            var encoder = new ChannelEncoder(channel, charset, BUFFER_SIZE);
+            long count = 0;
+            while (!seq.isEmpty()) {
+                if (seq instanceof LazySeq<Character> lazy) {
+                    seq = lazy.seq();
+                } else if (seq instanceof StringSeq chars) {
+                    count += write(encoder, chars.slice());
+                    seq = ISeq.of();
+                } else if (seq instanceof ChunkedCons<Character> chunked && chunked.chunkedFirst() instanceof StringChunk chunk) {
+                    count += write(encoder, chunk.slice());
+                    seq = chunked.chunkedMore();
+                } else if (seq instanceof ChunkedCons<Character> chunked && chunked.chunkedFirst() instanceof CharChunk chunk) {
+                    encoder.write(CharBuffer.wrap(chunk.array(), chunk.offset(), chunk.count()));
+                    count += chunk.count();
+                    seq = chunked.chunkedMore();
+                } else {
+                    encoder.write(seq.first());
+                    count++;
+                    seq = seq.rest();
+                }
+            }
+            encoder.finish();
+            return count;
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        }
+    }
+
+    private static int write(ChannelEncoder encoder, CharSlice slice) throws IOException {
+        encoder.write(slice.source(), slice.offset(), slice.offset() + slice.length());
+        return slice.length();
+    }
+
+    public static long writeCharSequences(ISeq<? extends CharSequence> seq, WritableByteChannel channel, Charset charset) {
+        try {
+            var encoder = new ChannelEncoder(channel, charset, BUFFER_SIZE);
+            long count = 0;
+            for (var s : seq) {
+                encoder.write(s);
+                count += s.length();
+            }
+            encoder.finish();
+            return count;
+        } catch (IOException ex) {
+            throw new IllegalStateException("unexpected IO error", ex);
+        }
+    }
 }
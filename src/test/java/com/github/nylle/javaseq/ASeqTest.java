@@ -5,10 +5,15 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -21,6 +26,27 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 class ASeqTest {
 
+    static class ExternalSortMain {
+
+        public static void main(String[] args) {
+            var random = new Random(42);
+            var iterator = Stream.generate(() -> Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong()))
+                    .limit(Long.parseLong(args[0]))
+                    .iterator();
+
+            String previous = "";
+            long count = 0;
+            for (var x : ISeq.seq(iterator).externalSorted(Comparator.naturalOrder(), Codec.strings(), 10_000)) {
+                if (x.compareTo(previous) < 0) {
+                    throw new IllegalStateException(x + " is sorted after " + previous);
+                }
+                previous = x;
+                count++;
+            }
+            System.out.print(count);
+        }
+    }
+
     static class TestSeq<T> extends ASeq<T> {
         private final T first;
         private final ISeq<T> rest;
@@ -816,6 +842,243 @@ class ASeqTest {
 
             assertThat(sut.sorted(Comparator.reverseOrder())).containsExactly(3, 2, 1, 0);
         }
+
+        @Test
+        void returnsSeqWithAllItemsSortedStablyInParallelForLargeSeqs() {
+            var sut = ISeq.range(ASeq.PARALLEL_SORT_THRESHOLD * 2).map(x -> List.of(x % 10, x));
+
+            var actual = sut.sorted(Comparator.comparing(x -> x.get(0)));
+
+            assertThat(actual).isExactlyInstanceOf(ArraySeq.class);
+            assertThat(actual).containsExactlyElementsOf(ISeq.range(10)
+                    .mapcat(x -> ISeq.range(x, ASeq.PARALLEL_SORT_THRESHOLD * 2, 10).map(y -> List.of(x, y))));
+        }
+    }
+
+    @Nested
+    class LazySorted {
+
+        @Test
+        void returnsEmptySeqForEmptySeq() {
+            assertThat(ISeq.<Integer>of().lazySorted()).isEmpty();
+        }
+
+        @Test
+        void returnsSeqWithAllItemsSortedUsingDefaultComparator() {
+            var sut = TestSeq.from(10, 9, 7, 8);
+
+            assertThat(sut.lazySorted()).containsExactly(7, 8, 9, 10);
+        }
+
+        @Test
+        void returnsSeqWithAllItemsSortedUsingSuppliedComparator() {
+            var sut = TestSeq.from(0, 1, 2, 3);
+
+            assertThat(sut.lazySorted(Comparator.reverseOrder())).containsExactly(3, 2, 1, 0);
+        }
+
+        @Test
+        void returnsSameItemsAsSortedAcrossChunks() {
+            var sut = ISeq.iterate(17, x -> (x * 31 + 7) % 1009).take(500).map(x -> List.of(x % 13, x));
+            Comparator<List<Integer>> comp = Comparator.comparing(x -> x.get(0));
+
+            assertThat(sut.lazySorted(comp)).containsExactlyElementsOf(sut.sorted(comp));
+        }
+
+        @Test
+        void doesNotRealizeThisSeqUntilAccessed() {
+            var sut = ISeq.iterate(3, x -> x - 1).take(4);
+
+            var actual = sut.lazySorted();
+
+            assertThat(sut.isRealized()).isFalse();
+            assertThat(actual.first()).isEqualTo(0);
+            assertThat(sut.isRealized()).isTrue();
+        }
+    }
+
+    @Nested
+    class SoftCached {
+
+        @Test
+        void returnsEmptySeqForEmptySeq() {
+            assertThat(ISeq.<Integer>of().softCached(x -> x.map(y -> y * 2))).isEmpty();
+        }
+
+        @Test
+        void returnsSameItemsAsPipelineAppliedToWholeSeq() {
+            var sut = ISeq.seq(ISeq.range(1000).toArray());
+
+            var actual = sut.softCached(x -> x.filter(y -> (int) y % 3 == 0).mapcat(y -> ISeq.of(y, y)));
+
+            assertThat(actual).containsExactlyElementsOf(sut.filter(y -> (int) y % 3 == 0).mapcat(y -> ISeq.of(y, y)));
+        }
+
+        @Test
+        void isLazy() {
+            var sut = ISeq.iterate(0, x -> x + 1);
+
+            var actual = sut.softCached(x -> x.map(y -> y * 2));
+
+            assertThat(actual.take(40)).containsExactlyElementsOf(ISeq.range(0, 80, 2));
+        }
+    }
+
+    @Nested
+    class ExternalSorted {
+
+        @Test
+        void returnsEmptySeqForEmptySeq() {
+            assertThat(ISeq.<Integer>of().externalSorted(Comparator.naturalOrder(), Codec.integers(), 10)).isEmpty();
+        }
+
+        @Test
+        void returnsSeqWithAllItemsSortedInMemoryIfTheyFitIntoBudget() {
+            var sut = TestSeq.from(10, 9, 7, 8);
+
+            var actual = sut.externalSorted(Comparator.naturalOrder(), Codec.integers(), 4);
+
+            assertThat(actual).containsExactly(7, 8, 9, 10);
+        }
+
+        @Test
+        void returnsSameItemsAsSortedAcrossManyRuns() {
+            var sut = ISeq.iterate(17, x -> (x * 31 + 7) % 100_003).take(10_000).map(x -> (x % 13) + ":" + x);
+            Comparator<String> comp = Comparator.comparing(x -> x.substring(0, x.indexOf(':')));
+
+            var actual = sut.externalSorted(comp, Codec.strings(), 100);
+
+            assertThat(actual).containsExactlyElementsOf(sut.sorted(comp));
+        }
+
+        @Test
+        void deletesTempFilesWhenFullyConsumed() throws IOException {
+            var sut = ISeq.range(1000).reverse();
+
+            var actual = sut.externalSorted(Comparator.naturalOrder(), Codec.integers(), 100);
+            assertThat(actual.take(5)).containsExactly(0, 1, 2, 3, 4);
+            var tempFiles = runFiles();
+
+            assertThat(actual.count()).isEqualTo(1000);
+            assertThat(runFiles()).isLessThanOrEqualTo(tempFiles - 10);
+        }
+
+        @Test
+        void deletesRunFilesOfAbandonedSortedSeqs() throws IOException, InterruptedException {
+            var tempFiles = runFiles();
+            var actual = ISeq.range(0, 200).map(x -> (x * 37) % 200).externalSorted(Comparator.naturalOrder(), Codec.integers(), 10);
+
+            assertThat(actual.first()).isEqualTo(0);
+            assertThat(runFiles()).isEqualTo(tempFiles + 20);
+
+            actual = null;
+            for (int i = 0; i < 50 && runFiles() > tempFiles; i++) {
+                System.gc();
+                Thread.sleep(100);
+            }
+
+            assertThat(runFiles()).isEqualTo(tempFiles);
+        }
+
+        @Test
+        void doesNotRealizeThisSeqUntilAccessed() {
+            var sut = ISeq.iterate(3, x -> x - 1).take(4);
+
+            var actual = sut.externalSorted(Comparator.naturalOrder(), Codec.integers(), 2);
+
+            assertThat(sut.isRealized()).isFalse();
+            assertThat(actual.first()).isEqualTo(0);
+            assertThat(sut.isRealized()).isTrue();
+        }
+
+        @Test
+        void sortsMoreItemsThanFitIntoTheHeap() throws IOException, InterruptedException {
+            var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            var process = new ProcessBuilder(java, "-Xmx32m", "-cp", System.getProperty("java.class.path"),
+                    ExternalSortMain.class.getName(), "2000000")
+                    .redirectErrorStream(true)
+                    .start();
+
+            var output = new String(process.getInputStream().readAllBytes()).trim();
+
+            assertThat(process.waitFor()).as(output).isZero();
+            assertThat(output).isEqualTo("2000000");
+        }
+
+        @Test
+        void throwsIfMemoryBudgetIsLessThanOne() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> TestSeq.from(1, 2).externalSorted(Comparator.naturalOrder(), Codec.integers(), 0))
+                    .withMessage("memoryBudget must be greater than 0");
+        }
+
+        private long runFiles() throws IOException {
+            try (var files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+                return files.filter(x -> x.getFileName().toString().startsWith("javaseq-")).count();
+            }
+        }
+    }
+
+    @Nested
+    class TopK {
+
+        @Test
+        void returnsFirstKItemsSortedUsingDefaultComparator() {
+            var sut = TestSeq.from(5, 3, 9, 1, 7, 2, 8);
+
+            assertThat(sut.topK(3)).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void returnsFirstKItemsSortedUsingSuppliedComparator() {
+            var sut = TestSeq.from(5, 3, 9, 1, 7, 2, 8);
+
+            assertThat(sut.topK(2, Comparator.reverseOrder())).containsExactly(9, 8);
+        }
+
+        @Test
+        void returnsAllItemsSortedIfKIsGreaterThanCount() {
+            var sut = TestSeq.from(5, 3, 9);
+
+            assertThat(sut.topK(Integer.MAX_VALUE)).containsExactly(3, 5, 9);
+        }
+
+        @Test
+        void returnsEmptySeqIfKIsLessThanOne() {
+            var sut = TestSeq.from(5, 3, 9);
+
+            assertThat(sut.topK(0)).isEmpty();
+            assertThat(sut.topK(-1)).isEmpty();
+        }
+
+        @Test
+        void keepsOrderOfEqualItemsLikeSorted() {
+            var sut = ISeq.range(1000).map(x -> List.of(x % 7, x));
+            Comparator<List<Integer>> comp = Comparator.comparing(x -> x.get(0));
+
+            assertThat(sut.topK(50, comp)).containsExactlyElementsOf(sut.sorted(comp).take(50));
+        }
+
+        @Test
+        void returnsKItemsWithLeastKeys() {
+            var sut = TestSeq.from("ccc", "a", "bb", "dddd", "e", "ff");
+
+            assertThat(sut.topKBy(4, x -> x.length())).containsExactly("a", "e", "bb", "ff");
+        }
+
+        @Test
+        void callsKeyFunctionOncePerItem() {
+            var calls = new int[1];
+            var sut = ISeq.range(100);
+
+            var actual = sut.topKBy(10, x -> {
+                calls[0]++;
+                return -x;
+            });
+
+            assertThat(actual).containsExactly(99, 98, 97, 96, 95, 94, 93, 92, 91, 90);
+            assertThat(calls[0]).isEqualTo(100);
+        }
     }
 
     @Test
@@ -1295,6 +1558,49 @@ class ASeqTest {
         assertThat(actual.toMap()).containsExactlyInAnyOrderEntriesOf(Map.of(ISeq.seq("xyx"), 1, ISeq.seq("aba"), 2));
     }
 
+    @Test
+    void frequenciesCountsNullItems() {
+        var sut = TestSeq.from("a", null, "b", null, "a", null);
+
+        var actual = sut.frequencies();
+
+        assertThat(actual).containsExactlyInAnyOrder(
+                new AbstractMap.SimpleImmutableEntry<>("a", 2),
+                new AbstractMap.SimpleImmutableEntry<>("b", 1),
+                new AbstractMap.SimpleImmutableEntry<>(null, 3));
+    }
+
+    @Nested
+    class GroupBy {
+
+        @Test
+        void returnsMapFromKeyToItemsInOrder() {
+            var sut = TestSeq.from("a", "bb", "cc", "d", "eee", "f");
+
+            var actual = sut.groupBy(x -> x.length());
+
+            assertThat(actual).containsOnlyKeys(1, 2, 3);
+            assertThat(actual.get(1)).containsExactly("a", "d", "f");
+            assertThat(actual.get(2)).containsExactly("bb", "cc");
+            assertThat(actual.get(3)).containsExactly("eee");
+        }
+
+        @Test
+        void supportsNullKeys() {
+            var sut = TestSeq.from(1, 2, 3, 4);
+
+            var actual = sut.groupBy(x -> x % 2 == 0 ? null : "odd");
+
+            assertThat(actual.get(null)).containsExactly(2, 4);
+            assertThat(actual.get("odd")).containsExactly(1, 3);
+        }
+
+        @Test
+        void returnsEmptyMapForEmptySeq() {
+            assertThat(ISeq.of().groupBy(x -> x)).isEmpty();
+        }
+    }
+
     @Test
     void countReturnsSizeOfSeq() {
         var sut = TestSeq.from(0, 1, 2, 3);
@@ -1414,4 +1720,88 @@ class ASeqTest {
             assertThat(sut).hasToString("[0, 1, 2, 3]");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class IndexOfSubseq {
+
+        @Test
+        void returnsIndexOfFirstOccurrence() {
+            var sut = ISeq.iterate(0, x -> x + 1).take(10).map(x -> x % 4);
+
+            assertThat(sut.indexOfSubseq(List.of(2, 3, 0))).isEqualTo(2);
+            assertThat(sut.indexOfSubseq(List.of(0))).isEqualTo(0);
+            assertThat(sut.indexOfSubseq(List.of(0, 1))).isEqualTo(0);
+            assertThat(sut.indexOfSubseq(List.of(3, 0, 1, 2, 3, 0))).isEqualTo(3);
+            assertThat(sut.indexOfSubseq(List.of())).isEqualTo(0);
+            assertThat(sut.indexOfSubseq(List.of(1, 0))).isEqualTo(-1);
+            assertThat(sut.containsSubseq(List.of(1, 2, 3))).isTrue();
+            assertThat(sut.containsSubseq(List.of(1, 3))).isFalse();
+            assertThat(ISeq.of().indexOfSubseq(List.of(1))).isEqualTo(-1);
+        }
+
+        @Test
+        void handlesOverlappingPrefixes() {
+            var sut = ISeq.of("a", "a", "b", "a", "a", "a", "b", "a", "a", "a", "a", "b");
+
+            assertThat(sut.indexOfSubseq(List.of("a", "a", "a", "b"))).isEqualTo(3);
+            assertThat(sut.indexOfSubseq(List.of("a", "a", "a", "a", "b"))).isEqualTo(7);
+            assertThat(sut.indexOfSubseq(ISeq.of("a", "b", "a", "a", "a"))).isEqualTo(1);
+        }
+
+        @Test
+        void comparesNulls() {
+            var sut = ISeq.of(1, null, 2, null, null, 3);
+
+            assertThat(sut.indexOfSubseq(ISeq.of(null, null))).isEqualTo(3);
+            assertThat(sut.indexOfSubseq(ISeq.of(null, 3))).isEqualTo(4);
+        }
+
+        @Test
+        void findsMatchesAcrossChunksOfInfiniteSeqs() {
+            var sut = ISeq.iterate(0, x -> x + 1).map(x -> x / 10);
+
+            assertThat(sut.indexOfSubseq(List.of(3, 3, 4, 4))).isEqualTo(38);
+            assertThat(ISeq.range(0, 100).filter(x -> x % 2 == 0).indexOfSubseq(List.of(62, 64, 66))).isEqualTo(31);
+        }
+
+        @Test
+        void findsCharsAcrossStringChunks() {
+            var text = "abaabaaabaaaab cabcab abcabd xyz abcabcabd";
+            var needles = List.of("a", "ab", "aab", "aaab", "aaaab", "b c", "cabd", "abcabcabd", "abd xyz", "xyz", "zz", "abcabcabcabd", "aaaaa", text);
+
+            for (var size = 1; size <= 9; size++) {
+                for (var mixed : List.of(false, true)) {
+                    var sut = chunks(text, size, mixed, false);
+
+                    for (var needle : needles) {
+                        assertThat(sut.indexOfSubseq(ISeq.seq(needle)))
+                                .as("%s in chunks of %d", needle, size)
+                                .isEqualTo(text.indexOf(needle));
+                    }
+                }
+            }
+        }
+
+        @Test
+        void findsCharsInInfiniteSeqOfStringChunks() {
+            var sut = chunks("foo bar", 3, false, true);
+
+            assertThat(sut.indexOfSubseq(ISeq.seq("bar__"))).isEqualTo(4);
+            assertThat(sut.indexOfSubseq(List.of('o', ' ', 'b'))).isEqualTo(2);
+            assertThat(chunks("foo bar", 3, false, false).indexOfSubseq(List.of('o', " ", 'b'))).isEqualTo(-1);
+        }
+
+        private ISeq<Character> chunks(String text, int size, boolean mixed, boolean infinite) {
+            return ISeq.lazySeq(() -> {
+                if (text.isEmpty()) {
+                    return infinite ? ISeq.repeat('_') : ISeq.of();
+                }
+                var n = Math.min(size, text.length());
+                IChunk<Character> chunk = mixed && text.length() % 2 == 0
+                        ? new ArrayChunk<>(ISeq.seq(text.substring(0, n)).toArray(new Character[0]))
+                        : new StringChunk(text, 0, n);
+                return new ChunkedCons<>(chunk, chunks(text.substring(n), size, mixed, infinite));
+            });
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -166,6 +167,29 @@ class ArraySeqTest {
         }
     }
 
+    @Nested
+    class MapTest {
+
+        @Test
+        void returnsMappedItemsAcrossChunks() {
+            var sut = ISeq.seq(ISeq.range(100).toArray());
+
+            assertThat(sut.map(x -> (int) x * 2)).containsExactlyElementsOf(ISeq.range(0, 200, 2));
+            assertThat(sut.drop(50).map(x -> (int) x * 2)).containsExactlyElementsOf(ISeq.range(100, 200, 2));
+        }
+
+        @Test
+        void isLazyPerChunk() {
+            var mapped = new ArrayList<Object>();
+
+            var actual = ISeq.seq(ISeq.range(100).toArray()).map(x -> mapped.add(x));
+
+            assertThat(mapped).isEmpty();
+            assertThat(actual.first()).isTrue();
+            assertThat(mapped).hasSize(32);
+        }
+    }
+
     @Nested
     class Take {
 
@@ -507,6 +531,13 @@ class ArraySeqTest {
         assertThat(actual.toMap()).containsExactlyInAnyOrderEntriesOf(Map.of(1, 1, 2, 2, 3, 3));
     }
 
+    @Test
+    void compactReturnsSameSeq() {
+        var sut = sutFrom(0, 1, 2, 3);
+
+        assertThat(sut.compact()).isSameAs(sut);
+    }
+
     @Test
     void toArrayReturnsArray() {
         assertThat(sutFrom(0, 1, 2, 3, 4, 5).toArray()).containsExactly(0, 1, 2, 3, 4, 5);
@@ -0,0 +1,45 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ByteChunkTest {
+
+    private static ByteChunk from(byte... bytes) {
+        return new ByteChunk(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    @Test
+    void nth() {
+        var sut = from((byte) -1, (byte) 0, (byte) 1, (byte) 2).dropFirst().dropLast(1);
+
+        assertThat(sut.nth(0)).isEqualTo((byte) 0);
+        assertThat(sut.nth(1)).isEqualTo((byte) 1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nth(2))
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void count() {
+        assertThat(from((byte) 1, (byte) 2, (byte) 3).count()).isEqualTo(3);
+        assertThat(from((byte) 1, (byte) 2, (byte) 3).drop(2).count()).isEqualTo(1);
+    }
+
+    @Test
+    void bufferReturnsReadOnlyViewOfRange() {
+        var actual = from((byte) 1, (byte) 2, (byte) 3, (byte) 4).drop(1).dropLast(1);
+
+        assertThat(actual).isInstanceOf(ByteChunk.class);
+        var buffer = ((ByteChunk) actual).buffer();
+        assertThat(buffer.isReadOnly()).isTrue();
+        assertThat(buffer.remaining()).isEqualTo(2);
+        assertThat(buffer.get()).isEqualTo((byte) 2);
+        assertThat(buffer.get()).isEqualTo((byte) 3);
+    }
+}
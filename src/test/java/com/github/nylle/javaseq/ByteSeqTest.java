@@ -0,0 +1,225 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ByteSeqTest {
+
+    private static ByteSeq sutFrom(int... values) {
+        var bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return new ByteSeq(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    @Nested
+    class Construct {
+
+        @Test
+        void withNullOrEmptyBufferThrows() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new ByteSeq(null, 0, 0))
+                    .withMessage("buffer is null or empty");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new ByteSeq(ByteBuffer.allocate(0), 0, 0))
+                    .withMessage("buffer is null or empty");
+        }
+
+        @Test
+        void withIndexAndEndThrows() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new ByteSeq(ByteBuffer.allocate(2), 2, 2))
+                    .withMessage("index 2 is out of range for buffer of size 2");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new ByteSeq(ByteBuffer.allocate(2), 0, 3))
+                    .withMessage("end 3 is out of range for buffer of size 2");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new ByteSeq(ByteBuffer.allocate(2), 1, 1))
+                    .withMessage("end 1 must be greater than index 1");
+        }
+    }
+
+    @Test
+    void firstRestAndLast() {
+        var sut = sutFrom(0, 1, 2, 3);
+
+        assertThat(sut.first()).isEqualTo((byte) 0);
+        assertThat(sut.rest()).isExactlyInstanceOf(ByteSeq.class).containsExactly((byte) 1, (byte) 2, (byte) 3);
+        assertThat(sut.last()).isEqualTo((byte) 3);
+        assertThat(sutFrom(0).rest()).isEqualTo(Nil.empty());
+        assertThat(sut.isRealized()).isTrue();
+    }
+
+    @Test
+    void takeAndDropReturnViews() {
+        var sut = sutFrom(0, 1, 2, 3, 4, 5);
+
+        assertThat(sut.take(3)).isExactlyInstanceOf(ByteSeq.class).containsExactly((byte) 0, (byte) 1, (byte) 2);
+        assertThat(sut.take(10)).isSameAs(sut);
+        assertThat(sut.take(0)).isEqualTo(Nil.empty());
+        assertThat(sut.drop(3)).isExactlyInstanceOf(ByteSeq.class).containsExactly((byte) 3, (byte) 4, (byte) 5);
+        assertThat(sut.drop(0)).isSameAs(sut);
+        assertThat(sut.drop(6)).isEqualTo(Nil.empty());
+    }
+
+    @Test
+    void takeWhileAndDropWhile() {
+        var sut = sutFrom(0, 1, 2, 3);
+
+        assertThat(sut.takeWhile(x -> x < 2)).isExactlyInstanceOf(ByteSeq.class).containsExactly((byte) 0, (byte) 1);
+        assertThat(sut.takeWhile(x -> x > 5)).isEmpty();
+        assertThat(sut.dropWhile(x -> x < 2)).isExactlyInstanceOf(ByteSeq.class).containsExactly((byte) 2, (byte) 3);
+        assertThat(sut.dropWhile(x -> x < 5)).isEmpty();
+        assertThat(sut.dropWhile(x -> x > 5)).isSameAs(sut);
+    }
+
+    @Test
+    void reduceSomeAndEvery() {
+        var sut = sutFrom(1, 2, 3, 4).rest();
+
+        assertThat(sut.reduce(0, (a, b) -> a + b)).isEqualTo(9);
+        assertThat(sut.some(x -> x == 4)).isTrue();
+        assertThat(sut.some(x -> x == 1)).isFalse();
+        assertThat(sut.every(x -> x > 1)).isTrue();
+        assertThat(sut.every(x -> x > 2)).isFalse();
+    }
+
+    @Test
+    void nthAndNthByte() {
+        var sut = (ByteSeq) sutFrom(0, 1, 2, 3).drop(1);
+
+        assertThat(sut.nth(0)).isEqualTo((byte) 1);
+        assertThat(sut.nth(3, (byte) -1)).isEqualTo((byte) -1);
+        assertThat(sut.nthByte(2)).isEqualTo((byte) 3);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nthByte(3))
+                .withMessage("Index 3 out of bounds for length 3");
+    }
+
+    @Test
+    void toByteBufferReturnsReadOnlyView() {
+        var sut = (ByteSeq) sutFrom(0, 1, 2, 3).drop(1).take(2);
+
+        var actual = sut.toByteBuffer();
+
+        assertThat(actual.isReadOnly()).isTrue();
+        assertThat(actual.remaining()).isEqualTo(2);
+        assertThat(actual.get(0)).isEqualTo((byte) 1);
+        assertThat(sut.toByteArray()).containsExactly(1, 2);
+    }
+
+    @Test
+    void countReturnsNumberOfBytes() {
+        assertThat(sutFrom(0, 1, 2, 3).drop(1).count()).isEqualTo(3);
+    }
+
+    @Nested
+    class UnboxedBytes {
+
+        private final ByteSeq sut = ISeq.byteSeq(new byte[]{3, -1, 4, 1, -5, 9, 2, 6});
+
+        @Test
+        void firstByteAndNthByte() {
+            assertThat(sut.firstByte()).isEqualTo((byte) 3);
+            assertThat(sut.nthByte(4)).isEqualTo((byte) -5);
+        }
+
+        @Test
+        void filterBytesReturnsLazySeqOfMatchingBytes() {
+            var actual = sut.filterBytes(b -> b > 0);
+
+            assertThat(actual.isRealized()).isFalse();
+            assertThat(actual).containsExactly((byte) 3, (byte) 4, (byte) 1, (byte) 9, (byte) 2, (byte) 6);
+            assertThat(sut.filterBytes(b -> b > 100)).isEmpty();
+        }
+
+        @Test
+        void filterBytesAndMapBytesWorkAcrossChunks() {
+            var bytes = new byte[100];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) i;
+            }
+            var large = ISeq.byteSeq(bytes);
+
+            assertThat(large.filterBytes(b -> b % 10 == 0).count()).isEqualTo(10);
+            assertThat(large.mapBytes(b -> (byte) (b * 2)).nth(99)).isEqualTo((byte) 198);
+        }
+
+        @Test
+        void mapBytesReturnsLazySeqOfMappedBytes() {
+            var actual = sut.mapBytes(b -> (byte) (b & 0x0F));
+
+            assertThat(actual.isRealized()).isFalse();
+            assertThat(actual).containsExactly((byte) 3, (byte) 15, (byte) 4, (byte) 1, (byte) 11, (byte) 9, (byte) 2, (byte) 6);
+        }
+
+        @Test
+        void reduceBytesSomeByteAndEveryByte() {
+            assertThat(sut.reduceBytes(0, (acc, b) -> acc + (b & 0xFF))).isEqualTo(3 + 255 + 4 + 1 + 251 + 9 + 2 + 6);
+            assertThat(sut.someByte(b -> b == 9)).isTrue();
+            assertThat(sut.someByte(b -> b == 7)).isFalse();
+            assertThat(sut.everyByte(b -> b != 0)).isTrue();
+            assertThat(sut.everyByte(b -> b > 0)).isFalse();
+        }
+
+        @Test
+        void indexOfAndCountBytes() {
+            assertThat(sut.indexOf((byte) 4)).isEqualTo(2);
+            assertThat(sut.indexOf((byte) 7)).isEqualTo(-1);
+            assertThat(sut.indexOf(Byte.valueOf((byte) 9))).isEqualTo(5);
+            assertThat(sut.drop(3)).isInstanceOfSatisfying(ByteSeq.class, x -> assertThat(x.indexOf((byte) 9)).isEqualTo(2));
+            assertThat(sut.countBytes((byte) 1)).isEqualTo(1);
+            assertThat(sut.countBytes(b -> b < 0)).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class Empty {
+
+        private final ByteSeq sut = ISeq.byteSeq(new byte[0]);
+
+        @Test
+        void isEmpty() {
+            assertThat(sut).isEmpty();
+            assertThat(sut.isEmpty()).isTrue();
+            assertThat(sut.count()).isZero();
+            assertThat(sut.first()).isNull();
+            assertThat(sut.last()).isNull();
+            assertThat(sut.rest()).isEmpty();
+            assertThat(ISeq.byteSeq((byte[]) null)).isEmpty();
+            assertThat(ISeq.byteSeq(ByteBuffer.allocate(4).position(4))).isEmpty();
+        }
+
+        @Test
+        void unboxedOperationsReturnEmptyResults() {
+            assertThat(sut.filterBytes(b -> true)).isEmpty();
+            assertThat(sut.mapBytes(b -> b)).isEmpty();
+            assertThat(sut.reduceBytes(0, (acc, b) -> acc + 1)).isZero();
+            assertThat(sut.someByte(b -> true)).isFalse();
+            assertThat(sut.everyByte(b -> false)).isTrue();
+            assertThat(sut.indexOf((byte) 0)).isEqualTo(-1);
+            assertThat(sut.countBytes((byte) 0)).isZero();
+            assertThat(sut.toByteArray()).isEmpty();
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(sut::firstByte);
+        }
+
+        @Test
+        void seqOperationsTreatItAsEmpty() {
+            assertThat(sut.take(3)).isEmpty();
+            assertThat(sut.drop(3)).isEmpty();
+            assertThat(sut.map(x -> x)).isEmpty();
+            assertThat(sut.filter(x -> true)).isEmpty();
+            assertThat(sut.cons((byte) 1)).containsExactly((byte) 1);
+            assertThat(sut).isEqualTo(ISeq.of());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelDecoderTest {
+
+    private static String decodeAll(ReadableByteChannel channel, Charset charset, int capacity) throws IOException {
+        var sut = new ChannelDecoder(channel, charset, capacity);
+        var result = new StringBuilder();
+        for (var chars = sut.next(); chars != null; chars = sut.next()) {
+            assertThat(chars.length()).isPositive();
+            result.append(chars);
+        }
+        return result.toString();
+    }
+
+    private static ReadableByteChannel channelOf(byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+
+    private static ReadableByteChannel trickle(byte[] bytes) {
+        var source = ByteBuffer.wrap(bytes);
+        return new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) {
+                if (!source.hasRemaining()) {
+                    return -1;
+                }
+                dst.put(source.get());
+                return 1;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Test
+    void returnsNullForEmptyChannel() throws IOException {
+        var sut = new ChannelDecoder(channelOf(new byte[0]), StandardCharsets.UTF_8, 16);
+
+        assertThat((Object) sut.next()).isNull();
+        assertThat((Object) sut.next()).isNull();
+    }
+
+    @Test
+    void decodesMultiByteCharactersSpanningReads() throws IOException {
+        var text = "äöü €uro 😀 ".repeat(100);
+
+        assertThat(decodeAll(channelOf(text.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, 16)).isEqualTo(text);
+        assertThat(decodeAll(trickle(text.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, 16)).isEqualTo(text);
+        assertThat(decodeAll(trickle(text.getBytes(StandardCharsets.UTF_16)), StandardCharsets.UTF_16, 17)).isEqualTo(text);
+    }
+
+    @Test
+    void replacesMalformedInput() throws IOException {
+        var bytes = new byte[]{'a', (byte) 0xc3, 'b', (byte) 0xe2, (byte) 0x82};
+
+        assertThat(decodeAll(channelOf(bytes), StandardCharsets.UTF_8, 16)).isEqualTo("a�b�");
+    }
+
+    @Test
+    void decodesOnlyTheBytesRead() throws IOException {
+        assertThat(decodeAll(trickle("abc".getBytes(StandardCharsets.US_ASCII)), StandardCharsets.US_ASCII, 1024)).isEqualTo("abc");
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelEncoderTest {
+
+    @Test
+    void encodesCharsAndCharSequencesAcrossBuffers() throws IOException {
+        var text = "äöü €uro 😀 ".repeat(100);
+        var out = new ByteArrayOutputStream();
+        var sut = new ChannelEncoder(Channels.newChannel(out), StandardCharsets.UTF_8, 16);
+
+        for (int i = 0; i < text.length(); i++) {
+            sut.write(text.charAt(i));
+        }
+        sut.write(text);
+        sut.write(new StringBuilder(text));
+        sut.finish();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(text.repeat(3));
+    }
+
+    @Test
+    void writesNothingBeforeBufferIsFullOrFinished() throws IOException {
+        var out = new ByteArrayOutputStream();
+        var sut = new ChannelEncoder(Channels.newChannel(out), StandardCharsets.UTF_8, 1024);
+
+        sut.write("foo");
+        assertThat(out.size()).isZero();
+
+        sut.finish();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+    }
+
+    @Test
+    void replacesUnmappableCharacters() throws IOException {
+        var out = new ByteArrayOutputStream();
+        var sut = new ChannelEncoder(Channels.newChannel(out), StandardCharsets.US_ASCII, 16);
+
+        sut.write("aäb");
+        sut.finish();
+
+        assertThat(out.toString(StandardCharsets.US_ASCII)).isEqualTo("a?b");
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.nylle.javaseq;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing a seq of chars to a file with {@link Util#toOutputStream}, which encodes and writes every char on
+ * its own, against {@link Util#writeChars} and {@link Util#writeCharSequences}, which encode into one buffer and write
+ * it to a channel when it is full. Each operation writes about one million chars.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.github.nylle.javaseq.ChannelSinkBenchmark}
+ * or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class ChannelSinkBenchmark {
+
+    @Param({"ascii", "utf8"})
+    private String text;
+
+    private ISeq<Character> chars;
+    private ISeq<String> lines;
+    private File file;
+    private FileOutputStream out;
+
+    @Setup(Level.Trial)
+    public void createSource() throws IOException {
+        var line = text.equals("ascii") ? "2024-01-01T00:00:00 INFO request handled in 42ms\n" : "2024-01-01T00:00:00 INFO Grüße aus Köln – 42€\n";
+        lines = ISeq.repeat((1 << 20) / line.length(), line).reify().stream().collect(SeqCollectors.toSeq());
+        chars = ISeq.seq(String.join("", lines));
+        file = File.createTempFile("javaseq-", ".bench");
+        file.deleteOnExit();
+    }
+
+    @Setup(Level.Invocation)
+    public void open() throws IOException {
+        out = new FileOutputStream(file);
+    }
+
+    @TearDown(Level.Invocation)
+    public void close() throws IOException {
+        out.close();
+    }
+
+    @Benchmark
+    public int toOutputStream() {
+        return chars.reduce(0, Util.toOutputStream(out, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public long writeChars() {
+        return Util.writeChars(chars, out.getChannel(), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public long writeCharSequences() {
+        return Util.writeCharSequences(lines, out.getChannel(), StandardCharsets.UTF_8);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ChannelSinkBenchmark.class.getSimpleName()).build()).run();
+    }
+}
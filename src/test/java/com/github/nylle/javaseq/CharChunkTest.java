@@ -0,0 +1,22 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class CharChunkTest {
+
+    @Test
+    void nth() {
+        var sut = new CharChunk("xfoox".toCharArray(), 0, 5).dropFirst().dropLast(1);
+
+        assertThat(sut.count()).isEqualTo(3);
+        assertThat(sut.nth(0)).isEqualTo('f');
+        assertThat(((CharChunk) sut).nthChar(2)).isEqualTo('o');
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nth(3))
+                .withMessage("Index 3 out of bounds for length 3");
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class CharSliceTest {
+
+    @Test
+    void sharesCharsOfSource() {
+        var source = new StringBuilder("foobar");
+        var sut = new CharSlice(source, 1, 4);
+
+        assertThat(sut.length()).isEqualTo(4);
+        assertThat(sut.charAt(0)).isEqualTo('o');
+        assertThat(sut).hasToString("ooba");
+
+        source.setCharAt(1, 'x');
+
+        assertThat(sut).hasToString("xoba");
+    }
+
+    @Test
+    void subSequenceReturnsSlice() {
+        var sut = new CharSlice("foobar", 1, 4).subSequence(1, 3);
+
+        assertThat(sut).isExactlyInstanceOf(CharSlice.class).hasToString("ob");
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.subSequence(1, 3))
+                .withMessage("begin 1, end 3, length 2");
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.charAt(2))
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void equalsAndHashCodeCompareChars() {
+        var sut = new CharSlice("xfoo", 1, 3);
+        var other = new CharSlice("foox", 0, 3);
+
+        assertThat(sut).isEqualTo(other).hasSameHashCodeAs(other).hasSameHashCodeAs("foo");
+        assertThat(sut).isNotEqualTo(new CharSlice("fo", 0, 2)).isNotEqualTo("foo");
+    }
+}
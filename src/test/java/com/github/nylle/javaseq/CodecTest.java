@@ -0,0 +1,51 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodecTest {
+
+    @Test
+    void stringsRoundTripsStringsOfAnyLength() throws IOException {
+        var longString = "x".repeat(100_000);
+
+        assertThat(roundTrip(Codec.strings(), List.of("", "foo", "äöü€", longString)))
+                .containsExactly("", "foo", "äöü€", longString);
+    }
+
+    @Test
+    void integersRoundTripsIntegers() throws IOException {
+        assertThat(roundTrip(Codec.integers(), List.of(0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE)))
+                .containsExactly(0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void longsRoundTripsLongs() throws IOException {
+        assertThat(roundTrip(Codec.longs(), List.of(0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE)))
+                .containsExactly(0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private static <T> List<T> roundTrip(Codec<T> codec, List<T> items) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            for (var item : items) {
+                codec.write(item, out);
+            }
+        }
+        var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        var result = new ArrayList<T>();
+        for (int i = 0; i < items.size(); i++) {
+            result.add(codec.read(in));
+        }
+        return result;
+    }
+}
@@ -4,12 +4,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -73,9 +78,62 @@ class ISeqTest {
 
         @Test
         void returnsSeqOfItemsInIterable() {
+            Iterable<Integer> iterable = () -> List.of(1, 2, 3).iterator();
+
+            assertThat(ISeq.seq(iterable))
+                    .isInstanceOf(LazySeq.class)
+                    .containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void returnsSeqOfItemsInCollectionCopiedInBulk() {
             var list = new LinkedList<>(List.of(1, 2, 3));
 
             assertThat(ISeq.seq(list))
+                    .isExactlyInstanceOf(ArraySeq.class)
+                    .containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void returnsLazySeqOfItemsInLargeList() {
+            var list = new LinkedList<>(ISeq.range(2000).reify());
+
+            var actual = ISeq.seq(list);
+
+            assertThat(actual).isInstanceOf(LazySeq.class);
+            assertThat(actual.isRealized()).isFalse();
+            assertThat(actual).containsExactlyElementsOf(list);
+        }
+
+        @Test
+        void returnsLazySeqOfItemsInConcurrentList() {
+            var list = new AbstractList<Integer>() {
+                @Override
+                public Integer get(int index) {
+                    return index;
+                }
+
+                @Override
+                public int size() {
+                    return 3;
+                }
+
+                @Override
+                public Spliterator<Integer> spliterator() {
+                    return Spliterators.spliterator(this, Spliterator.ORDERED | Spliterator.CONCURRENT);
+                }
+            };
+
+            assertThat(ISeq.seq(list))
+                    .isInstanceOf(LazySeq.class)
+                    .containsExactly(0, 1, 2);
+        }
+
+        @Test
+        void returnsLazySeqOfItemsInCollectionThatIsNotAList() {
+            var set = new LinkedHashSet<>(List.of(1, 2, 3));
+
+            assertThat(ISeq.seq(set))
                     .isInstanceOf(LazySeq.class)
                     .containsExactly(1, 2, 3);
         }
@@ -94,7 +152,7 @@ class ISeqTest {
             var arrayList = List.of("a");
 
             assertThat(ISeq.seq(arrayList))
-                    .isExactlyInstanceOf(ArraySeq.class)
+                    .isExactlyInstanceOf(ListSeq.class)
                     .containsExactly("a");
         }
 
@@ -103,6 +161,33 @@ class ISeqTest {
             var arrayList = List.of("a", "b", "c");
 
             assertThat(ISeq.seq(arrayList))
+                    .isExactlyInstanceOf(ListSeq.class)
+                    .containsExactly("a", "b", "c");
+        }
+
+        @Test
+        void returnsSeqOfItemsInImmutableSubList() {
+            var subList = List.of("a", "b", "c", "d").subList(1, 3);
+
+            assertThat(ISeq.seq(subList))
+                    .isExactlyInstanceOf(ListSeq.class)
+                    .containsExactly("b", "c");
+        }
+
+        @Test
+        void returnsSeqOfItemsInStreamToList() {
+            var list = Stream.of("a", null, "c").toList();
+
+            assertThat(ISeq.seq(list))
+                    .isExactlyInstanceOf(ListSeq.class)
+                    .containsExactly("a", null, "c");
+        }
+
+        @Test
+        void returnsSeqOfItemsInPersistentListWithoutCopying() {
+            var list = Util.conj(List.of("a"), "b", "c");
+
+            assertThat(ISeq.seq(list))
                     .isExactlyInstanceOf(ArraySeq.class)
                     .containsExactly("a", "b", "c");
         }
@@ -116,6 +201,54 @@ class ISeqTest {
                     .containsExactly(0, 1, 2, 3);
         }
 
+        @Test
+        void returnsSeqOfItemsInSizedStreamInOneArray() {
+            var stream = ISeq.range(100).reify().stream().map(x -> x * 2);
+
+            var actual = ISeq.seq(stream);
+
+            assertThat(actual).containsExactlyElementsOf(ISeq.range(0, 200, 2));
+            assertThat(actual.rest()).isExactlyInstanceOf(ArraySeq.class);
+        }
+
+        @Test
+        void returnsSeqOfItemsInParallelStreamInOrder() {
+            var stream = ISeq.range(10_000).reify().parallelStream().map(x -> x * 2);
+
+            assertThat(ISeq.seq(stream)).containsExactlyElementsOf(ISeq.range(0, 20_000, 2));
+        }
+
+        @Test
+        void returnsSeqOfItemsInUnsizedStreamInChunks() {
+            var stream = ISeq.range(100).reify().stream().filter(x -> x % 2 == 0);
+
+            var actual = ISeq.seq(stream);
+
+            assertThat(actual).containsExactlyElementsOf(ISeq.range(0, 100, 2));
+            assertThat(actual.rest()).isExactlyInstanceOf(ChunkedCons.class);
+        }
+
+        @Test
+        void doesNotForceUnsizedStreamBeyondFirstItem() {
+            var pulled = new ArrayList<Integer>();
+
+            var actual = ISeq.seq(Stream.iterate(0, x -> x + 1).peek(pulled::add));
+
+            assertThat(pulled).containsExactly(0);
+            assertThat(actual.take(40)).hasSize(40);
+            assertThat(pulled).hasSize(65);
+        }
+
+        @Test
+        void returnsByteSeqOfBytes() {
+            var bytes = new byte[]{1, 2, 3, 4};
+
+            assertThat(ISeq.seq(bytes)).isExactlyInstanceOf(ByteSeq.class).containsExactly((byte) 1, (byte) 2, (byte) 3, (byte) 4);
+            assertThat(ISeq.seq(ByteBuffer.wrap(bytes).position(2))).isExactlyInstanceOf(ByteSeq.class).containsExactly((byte) 3, (byte) 4);
+            assertThat(ISeq.seq(new byte[0])).isInstanceOf(Nil.class);
+            assertThat(ISeq.seq(ByteBuffer.allocate(0))).isInstanceOf(Nil.class);
+        }
+
         @Test
         void returnsSeqOfItemsInStream() {
             var infiniteStream = Stream.iterate(0, x -> x + 1);
@@ -296,6 +429,27 @@ class ISeqTest {
                     .containsExactly("a", "b", "c", "d", "e", "f");
         }
 
+        @Test
+        void returnsSeqFromConcatenatingStringAndCharacter() {
+            assertThat(ISeq.concat("foo", 'x')).isInstanceOf(StringSeq.class).containsExactly('f', 'o', 'o', 'x');
+            assertThat(ISeq.concat("", 'x')).isInstanceOf(StringSeq.class).containsExactly('x');
+            assertThat(ISeq.concat("foo", (Character) null)).containsExactly('f', 'o', 'o', null);
+        }
+
+        @Test
+        void returnsSeqFromConcatenatingRopes() {
+            var rope = Rope.of("");
+            for (int i = 0; i < 1000; i++) {
+                rope = rope.concat("foo" + i);
+            }
+
+            var actual = ISeq.concat(rope, rope);
+
+            assertThat(actual).isInstanceOf(StringSeq.class).hasSize(2 * rope.length());
+            assertThat(actual.str()).isEqualTo(rope.toString() + rope);
+            assertThat(ISeq.concat("", "")).isEmpty();
+        }
+
         @Test
         void returnsSeqFromConcatenatingMultipleStrings() {
             var actual = ISeq.concat("hello", " ", "world");
@@ -305,6 +459,12 @@ class ISeqTest {
                     .containsExactly('h', 'e', 'l', 'l', 'o', ' ', 'w', 'o', 'r', 'l', 'd');
         }
 
+        @Test
+        void appendsNullStringsAsNull() {
+            assertThat(ISeq.concat("foo", null, "bar").str()).isEqualTo("foonullbar");
+            assertThat(ISeq.concat((CharSequence) null, (CharSequence) null).str()).isEqualTo("nullnull");
+        }
+
         @Test
         void returnsSeqFromConcatenatingMultipleIterables() {
             var actual = ISeq.concat(List.of("a", "b"), List.of("c", "d"), List.of("e", "f"));
@@ -1677,6 +1677,63 @@ class LazySeqTest {
         }
     }
 
+    @Nested
+    class Compact {
+
+        @Test
+        void returnsSeqWithRealizedItemsInChunks() {
+            var sut = fromRange().map(x -> x * 2);
+            sut.nth(99);
+
+            var actual = sut.compact();
+
+            assertThat(actual).isExactlyInstanceOf(ChunkedCons.class);
+            assertThat(actual.take(102)).containsExactlyElementsOf(ISeq.range(102).map(x -> x * 2));
+        }
+
+        @Test
+        void doesNotRealizeRemainingItems() {
+            var sut = fromRange();
+            sut.nth(9);
+
+            var actual = sut.compact();
+
+            var remaining = actual;
+            for (int i = 0; i < 10; i++) {
+                remaining = remaining.rest();
+            }
+            assertThat(remaining.isRealized()).isFalse();
+            assertThat(remaining.first()).isEqualTo(10);
+            assertThat(actual.take(12)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+        }
+
+        @Test
+        void returnsArraySeqWhenFullyRealized() {
+            var sut = fromRange(100).filter(x -> x % 2 == 0);
+            sut.count();
+
+            var actual = sut.compact();
+
+            assertThat(actual).isExactlyInstanceOf(ArraySeq.class);
+            assertThat(actual).containsExactlyElementsOf(ISeq.range(0, 100, 2));
+        }
+
+        @Test
+        void returnsSameSeqWhenNotRealized() {
+            var sut = fromRange();
+
+            assertThat(sut.compact()).isSameAs(sut);
+        }
+
+        @Test
+        void returnsSameSeqWhenEmpty() {
+            var sut = fromRange(0);
+            sut.isEmpty();
+
+            assertThat(sut.compact()).isSameAs(sut);
+        }
+    }
+
     @Test
     void forEachCallsConsumerForEveryItemPresent() {
         var consumer = Mockito.<Consumer<Integer>>mock();
@@ -0,0 +1,58 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LineSplitterTest {
+
+    private static List<CharSequence> split(String text, int capacity, boolean slices) throws IOException {
+        var channel = Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+        var sut = new LineSplitter(channel, StandardCharsets.UTF_8, capacity, slices);
+        var result = new ArrayList<CharSequence>();
+        for (var lines = sut.next(); lines != null; lines = sut.next()) {
+            assertThat(lines).isNotEmpty();
+            result.addAll(List.of(lines));
+        }
+        assertThat(channel.isOpen()).isFalse();
+        return result;
+    }
+
+    @Test
+    void splitsLinesAtAllLineTerminators() throws IOException {
+        assertThat(split("a\nb\r\nc\rd", 1024, false)).containsExactly("a", "b", "c", "d");
+    }
+
+    @Test
+    void keepsEmptyLinesButNoLineAfterFinalTerminator() throws IOException {
+        assertThat(split("\n\na\r\n\r\n", 1024, false)).containsExactly("", "", "a", "");
+        assertThat(split("", 1024, false)).isEmpty();
+    }
+
+    @Test
+    void joinsLinesAndTerminatorsSpanningBuffers() throws IOException {
+        var text = "first line\r\nsecond longer line\rthird\n\r\nfourth: äöü €";
+        var expected = List.of("first line", "second longer line", "third", "", "fourth: äöü €");
+
+        for (int capacity = 16; capacity < 40; capacity++) {
+            assertThat(split(text, capacity, false)).containsExactlyElementsOf(expected);
+            assertThat(split(text, capacity, true)).map(CharSequence::toString).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void returnsReadOnlySlicesOfLinesWithinOneBuffer() throws IOException {
+        var actual = split("foo\nbar\n", 1024, true);
+
+        assertThat(actual).allSatisfy(x -> assertThat(x).isInstanceOfSatisfying(CharBuffer.class, y -> assertThat(y.isReadOnly()).isTrue()));
+        assertThat(actual).map(CharSequence::toString).containsExactly("foo", "bar");
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ListSeqTest {
+
+    @SafeVarargs
+    private static <T> ISeq<T> sutFrom(T... items) {
+        return new ListSeq<>(List.of(items), 0, items.length);
+    }
+
+    @Nested
+    class Construct {
+
+        @Test
+        void withNullOrEmptyListThrows() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new ListSeq<Integer>(null, 0, 0))
+                    .withMessage("list is null or empty");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new ListSeq<Integer>(List.of(), 0, 0))
+                    .withMessage("list is null or empty");
+        }
+
+        @Test
+        void withIndexAndEndThrows() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new ListSeq<>(List.of(1, 2), 2, 2))
+                    .withMessage("index 2 is out of range for list of size 2");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new ListSeq<>(List.of(1, 2), 0, 3))
+                    .withMessage("end 3 is out of range for list of size 2");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new ListSeq<>(List.of(1, 2), 1, 1))
+                    .withMessage("end 1 must be greater than index 1");
+        }
+    }
+
+    @Test
+    void firstRestAndLast() {
+        var sut = sutFrom(0, 1, 2, 3);
+
+        assertThat(sut.first()).isEqualTo(0);
+        assertThat(sut.rest()).isExactlyInstanceOf(ListSeq.class).containsExactly(1, 2, 3);
+        assertThat(sut.last()).isEqualTo(3);
+        assertThat(sutFrom(0).rest()).isEqualTo(Nil.empty());
+        assertThat(sut.isRealized()).isTrue();
+    }
+
+    @Test
+    void takeAndDropReturnViews() {
+        var sut = sutFrom(0, 1, 2, 3, 4, 5);
+
+        assertThat(sut.take(3)).isExactlyInstanceOf(ListSeq.class).containsExactly(0, 1, 2);
+        assertThat(sut.take(10)).isSameAs(sut);
+        assertThat(sut.take(0)).isEqualTo(Nil.empty());
+        assertThat(sut.drop(3)).isExactlyInstanceOf(ListSeq.class).containsExactly(3, 4, 5);
+        assertThat(sut.drop(0)).isSameAs(sut);
+        assertThat(sut.drop(6)).isEqualTo(Nil.empty());
+        assertThat(sut.drop(2).take(2)).containsExactly(2, 3);
+    }
+
+    @Nested
+    class Filter {
+
+        @Test
+        void returnsNilWhenNoItemsMatch() {
+            assertThat(sutFrom(0, 1, 2).filter(x -> x > 2)).isEmpty();
+        }
+
+        @Test
+        void returnsMatchingItemsAcrossChunks() {
+            var sut = ISeq.seq(ISeq.range(1000).reify());
+
+            assertThat(sut.filter(x -> x % 100 == 0)).containsExactly(0, 100, 200, 300, 400, 500, 600, 700, 800, 900);
+            assertThat(sut.drop(1).filter(x -> x % 100 == 0)).containsExactly(100, 200, 300, 400, 500, 600, 700, 800, 900);
+        }
+
+        @Test
+        void isLazyPerChunk() {
+            var tested = new ArrayList<Integer>();
+
+            var actual = ISeq.seq(ISeq.range(100).reify()).filter(x -> tested.add(x));
+
+            assertThat(tested).isEmpty();
+            assertThat(actual.first()).isEqualTo(0);
+            assertThat(tested).hasSize(32);
+        }
+    }
+
+    @Nested
+    class MapTest {
+
+        @Test
+        void returnsMappedItemsAcrossChunks() {
+            var sut = ISeq.seq(ISeq.range(100).reify());
+
+            assertThat(sut.map(x -> x * 2)).containsExactlyElementsOf(ISeq.range(0, 200, 2));
+            assertThat(sut.drop(50).map(x -> x * 2)).containsExactlyElementsOf(ISeq.range(100, 200, 2));
+        }
+
+        @Test
+        void isLazyPerChunk() {
+            var mapped = new ArrayList<Integer>();
+
+            var actual = ISeq.seq(ISeq.range(100).reify()).map(x -> mapped.add(x));
+
+            assertThat(mapped).isEmpty();
+            assertThat(actual.first()).isTrue();
+            assertThat(mapped).hasSize(32);
+        }
+    }
+
+    @Test
+    void reduceSomeAndEvery() {
+        var sut = sutFrom(1, 2, 3, 4).rest();
+
+        assertThat(sut.reduce(0, (a, b) -> a + b)).isEqualTo(9);
+        assertThat(sut.some(x -> x == 4)).isTrue();
+        assertThat(sut.some(x -> x == 1)).isFalse();
+        assertThat(sut.every(x -> x > 1)).isTrue();
+        assertThat(sut.every(x -> x > 2)).isFalse();
+    }
+
+    @Test
+    void runCallsProcForEveryItemPresent() {
+        var proc = new ArrayList<Integer>();
+
+        sutFrom(1, 2, 3).run((Consumer<Integer>) proc::add);
+
+        assertThat(proc).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void nthReturnsValueAtIndex() {
+        var sut = sutFrom(0, 1, 2, 3).drop(1);
+
+        assertThat(sut.nth(0)).isEqualTo(1);
+        assertThat(sut.nth(2)).isEqualTo(3);
+        assertThat(sut.nth(3, -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void countToArrayAndIndexOfRespectTheRange() {
+        var sut = sutFrom(0, 1, 2, 1, 0).drop(1).take(3);
+
+        assertThat(sut.count()).isEqualTo(3);
+        assertThat(sut.toArray()).containsExactly(1, 2, 1);
+        assertThat(sut.indexOf(1)).isEqualTo(0);
+        assertThat(sut.lastIndexOf(1)).isEqualTo(2);
+        assertThat(sut.indexOf(0)).isEqualTo(-1);
+    }
+
+    @Test
+    void compactReturnsSameSeq() {
+        var sut = sutFrom(1, 2, 3);
+
+        assertThat(sut.compact()).isSameAs(sut);
+    }
+}
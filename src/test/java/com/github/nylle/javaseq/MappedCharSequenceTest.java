@@ -0,0 +1,49 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MappedCharSequenceTest {
+
+    private static MappedCharSequence from(String text) {
+        var bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        return new MappedCharSequence(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    @Test
+    void readsBytesAsLatin1Characters() {
+        var sut = from("Grüße, ½ ÿ");
+
+        assertThat(sut.length()).isEqualTo(10);
+        assertThat(sut.charAt(2)).isEqualTo('ü');
+        assertThat(sut.charAt(9)).isEqualTo('ÿ');
+        assertThat(sut.toString()).isEqualTo("Grüße, ½ ÿ");
+    }
+
+    @Test
+    void subSequenceSharesBuffer() {
+        var sut = from("Hello world!").subSequence(6, 11);
+
+        assertThat(sut).isInstanceOf(MappedCharSequence.class);
+        assertThat(sut.length()).isEqualTo(5);
+        assertThat(sut.charAt(0)).isEqualTo('w');
+        assertThat(sut.toString()).isEqualTo("world");
+        assertThat(sut.subSequence(1, 3).toString()).isEqualTo("or");
+    }
+
+    @Test
+    void charAtThrowsOutsideBounds() {
+        var sut = from("Hello world!").subSequence(0, 5);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.charAt(5))
+                .withMessage("Index 5 out of bounds for length 5");
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> sut.charAt(-1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> sut.subSequence(2, 6));
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MappedStringSeqTest {
+
+    private static final String TEXT = "abcdefghijklmnopqrstuvwxyz";
+
+    private static MappedStringSeq sutFrom(String text, int windowSize) {
+        var bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.ISO_8859_1));
+        var windows = new ArrayList<MappedCharSequence>();
+        for (int i = 0; i < text.length(); i += windowSize) {
+            windows.add(new MappedCharSequence(bytes, i, Math.min(windowSize, text.length() - i)));
+        }
+        return new MappedStringSeq(windows.toArray(new MappedCharSequence[0]), windowSize, 0, text.length());
+    }
+
+    @Nested
+    class Construct {
+
+        @Test
+        void withNullOrEmptyWindowsThrows() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new MappedStringSeq(null, 4, 0, 1))
+                    .withMessage("windows is null or empty");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new MappedStringSeq(new MappedCharSequence[0], 4, 0, 1))
+                    .withMessage("windows is null or empty");
+        }
+
+        @Test
+        void withIndexAndEndThrows() {
+            var bytes = ByteBuffer.wrap(new byte[6]);
+            var windows = new MappedCharSequence[]{new MappedCharSequence(bytes, 0, 4), new MappedCharSequence(bytes, 4, 2)};
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new MappedStringSeq(windows, 4, 0, 7))
+                    .withMessage("end 7 is out of range for 2 windows of 4 chars");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new MappedStringSeq(windows, 4, 3, 3))
+                    .withMessage("end 3 must be greater than index 3");
+        }
+    }
+
+    @Test
+    void firstRestAndLast() {
+        var sut = sutFrom(TEXT, 4);
+
+        assertThat(sut.first()).isEqualTo('a');
+        assertThat(sut.last()).isEqualTo('z');
+        assertThat(sut.rest()).isExactlyInstanceOf(MappedStringSeq.class).startsWith('b', 'c');
+        assertThat(sut.drop(24).rest()).isExactlyInstanceOf(StringSeq.class).containsExactly('z');
+        assertThat(sut.drop(25).rest()).isEqualTo(Nil.empty());
+        assertThat(sut.isRealized()).isTrue();
+    }
+
+    @Test
+    void takeAndDropIndexIntoWindows() {
+        var sut = sutFrom(TEXT, 4);
+
+        assertThat(sut.drop(5).take(3)).isExactlyInstanceOf(StringSeq.class).containsExactly('f', 'g', 'h');
+        assertThat(sut.drop(6).take(4)).isExactlyInstanceOf(MappedStringSeq.class).containsExactly('g', 'h', 'i', 'j');
+        assertThat(sut.drop(0)).isSameAs(sut);
+        assertThat(sut.take(26)).isSameAs(sut);
+        assertThat(sut.drop(26)).isEmpty();
+        assertThat(sut.take(0)).isEmpty();
+    }
+
+    @Test
+    void nthCountAndCharAtAreIndexedAcrossWindows() {
+        var sut = sutFrom(TEXT, 4);
+
+        assertThat(sut.count()).isEqualTo(26);
+        assertThat(sut.longCount()).isEqualTo(26L);
+        assertThat(sut.nth(13)).isEqualTo('n');
+        assertThat(sut.nth(26, '-')).isEqualTo('-');
+        assertThat(((MappedStringSeq) sut.drop(3)).charAt(20L)).isEqualTo('x');
+        assertThat(((MappedStringSeq) sut.drop(3)).longCount()).isEqualTo(23L);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.charAt(26L))
+                .withMessage("Index 26 out of bounds for length 26");
+    }
+
+    @Test
+    void mapIsChunkedWithinWindows() {
+        var sut = sutFrom(TEXT, 10);
+
+        var actual = sut.map(Character::toUpperCase);
+
+        assertThat(actual.isRealized()).isFalse();
+        assertThat(actual.take(12)).containsExactlyElementsOf(ISeq.seq("ABCDEFGHIJKL"));
+        assertThat(actual.str()).isEqualTo(TEXT.toUpperCase());
+    }
+
+    @Test
+    void reduceSomeAndEvery() {
+        var sut = sutFrom(TEXT, 4);
+
+        assertThat(sut.reduce(new StringBuilder(), StringBuilder::append).toString()).isEqualTo(TEXT);
+        assertThat(sut.some(x -> x == 'q')).isTrue();
+        assertThat(sut.some(x -> x == '?')).isFalse();
+        assertThat(sut.every(Character::isLowerCase)).isTrue();
+        assertThat(sut.every(x -> x < 'z')).isFalse();
+    }
+}
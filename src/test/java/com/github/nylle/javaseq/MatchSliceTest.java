@@ -0,0 +1,47 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MatchSliceTest {
+
+    @Test
+    void recordsOffsetsOfGroupsRelativeToBase() {
+        var source = "xxkey=value;";
+        var matcher = Pattern.compile("(\\w+)=(\\w+)(!)?").matcher(source).region(2, source.length());
+        assertThat(matcher.find()).isTrue();
+
+        var sut = new MatchSlice(source, 2, matcher);
+
+        assertThat(sut.groupCount()).isEqualTo(3);
+        assertThat(sut.start()).isEqualTo(0);
+        assertThat(sut.end()).isEqualTo(9);
+        assertThat(sut.group()).isEqualTo("key=value");
+        assertThat(sut.start(2)).isEqualTo(4);
+        assertThat(sut.end(2)).isEqualTo(9);
+        assertThat(sut.group(1)).isEqualTo("key");
+        assertThat(sut.slice(2)).isEqualTo(new CharSlice("value", 0, 5));
+        assertThat(sut.slice()).hasToString("key=value");
+        assertThat(sut).hasToString("MatchSlice[0, 9: key=value]");
+    }
+
+    @Test
+    void returnsNullForGroupsNotTakingPartInMatch() {
+        var matcher = Pattern.compile("a(b)?").matcher("a");
+        assertThat(matcher.find()).isTrue();
+
+        var sut = new MatchSlice("a", 0, matcher);
+
+        assertThat(sut.group(1)).isNull();
+        assertThat(sut.slice(1)).isNull();
+        assertThat(sut.start(1)).isEqualTo(-1);
+        assertThat(sut.end(1)).isEqualTo(-1);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.group(2))
+                .withMessage("No group 2");
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class PersistentArrayListTest {
+
+    @Test
+    void fromReturnsListOfAllItems() {
+        var sut = PersistentArrayList.from(List.of(1, 2, 3));
+
+        assertThat(sut).hasSize(3).containsExactly(1, 2, 3);
+        assertThat(sut).isEqualTo(List.of(1, 2, 3));
+    }
+
+    @Test
+    void fromReturnsSameListIfAlreadyPersistent() {
+        var sut = PersistentArrayList.from(List.of(1));
+
+        assertThat(PersistentArrayList.from(sut)).isSameAs(sut);
+    }
+
+    @Test
+    void fromDoesNotShareItemsWithMutableSource() {
+        var source = new ArrayList<>(List.of(1, 2));
+
+        var sut = PersistentArrayList.from(source);
+        source.set(0, 3);
+
+        assertThat(sut).containsExactly(1, 2);
+    }
+
+    @Test
+    void conjReturnsNewListWithItemsAdded() {
+        var sut = PersistentArrayList.from(List.of(1));
+
+        var actual = sut.conj(2, 3);
+
+        assertThat(sut).containsExactly(1);
+        assertThat(actual).containsExactly(1, 2, 3);
+        assertThat(sut.conj()).isSameAs(sut);
+    }
+
+    @Test
+    void conjOntoEarlierListDoesNotAffectLaterLists() {
+        var sut = PersistentArrayList.from(List.of(1)).conj(2);
+        var first = sut.conj(3);
+
+        var second = sut.conj(4);
+
+        assertThat(sut).containsExactly(1, 2);
+        assertThat(first).containsExactly(1, 2, 3);
+        assertThat(second).containsExactly(1, 2, 4);
+        assertThat(first.conj(5)).containsExactly(1, 2, 3, 5);
+        assertThat(second.conj(6)).containsExactly(1, 2, 4, 6);
+    }
+
+    @Test
+    void conjManyItemsOneByOne() {
+        var sut = PersistentArrayList.<Integer>from(List.of());
+        var lists = new ArrayList<List<Integer>>();
+
+        for (int i = 0; i < 1000; i++) {
+            sut = sut.conj(i);
+            lists.add(sut);
+        }
+
+        assertThat(sut).hasSize(1000).startsWith(0, 1, 2).endsWith(998, 999);
+        assertThat(lists.get(9)).hasSize(10).endsWith(9);
+    }
+
+    @Test
+    void throwsOnNullItems() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PersistentArrayList.from(Arrays.asList(1, null)));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PersistentArrayList.from(List.of(1)).conj(2, null));
+    }
+
+    @Test
+    void isUnmodifiable() {
+        var sut = PersistentArrayList.from(List.of(1));
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sut.add(2));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sut.set(0, 2));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sut.remove(0));
+    }
+
+    @Test
+    void getThrowsIfIndexIsOutOfRange() {
+        var sut = PersistentArrayList.from(List.of(1)).conj(2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> sut.get(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> sut.get(-1));
+    }
+}
@@ -0,0 +1,203 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class PersistentHashMapTest {
+
+    private static final class Collider {
+        private final String name;
+
+        Collider(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Collider other && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    void emptyReturnsEmptyMap() {
+        var sut = PersistentHashMap.<String, Integer>empty();
+
+        assertThat(sut).isEmpty();
+        assertThat(sut.get("foo")).isNull();
+        assertThat(sut.containsKey("foo")).isFalse();
+    }
+
+    @Test
+    void fromReturnsMapWithAllEntries() {
+        var sut = PersistentHashMap.from(Map.of("a", 1, "b", 2, "c", 3));
+
+        assertThat(sut).containsExactlyInAnyOrderEntriesOf(Map.of("a", 1, "b", 2, "c", 3));
+    }
+
+    @Nested
+    class Assoc {
+
+        @Test
+        void returnsNewMapWithEntryAdded() {
+            var sut = PersistentHashMap.<String, Integer>empty().assoc("a", 1);
+
+            var actual = sut.assoc("b", 2);
+
+            assertThat(sut).containsExactly(entry("a", 1));
+            assertThat(actual).containsExactlyInAnyOrderEntriesOf(Map.of("a", 1, "b", 2));
+        }
+
+        @Test
+        void replacesValueOfExistingKey() {
+            var sut = PersistentHashMap.<String, Integer>empty().assoc("a", 1);
+
+            var actual = sut.assoc("a", 2);
+
+            assertThat(sut.get("a")).isEqualTo(1);
+            assertThat(actual.get("a")).isEqualTo(2);
+            assertThat(actual).hasSize(1);
+        }
+
+        @Test
+        void returnsSameMapIfValueIsIdentical() {
+            var sut = PersistentHashMap.<String, Integer>empty().assoc("a", 1);
+
+            assertThat(sut.assoc("a", sut.get("a"))).isSameAs(sut);
+        }
+
+        @Test
+        void supportsNullKeysAndValues() {
+            var sut = PersistentHashMap.<String, Integer>empty().assoc(null, 1).assoc("a", null);
+
+            assertThat(sut).hasSize(2);
+            assertThat(sut.get(null)).isEqualTo(1);
+            assertThat(sut.containsKey("a")).isTrue();
+            assertThat(sut.get("a")).isNull();
+            assertThat(sut).containsExactlyInAnyOrderEntriesOf(new HashMap<>() {{
+                put(null, 1);
+                put("a", null);
+            }});
+        }
+
+        @Test
+        void supportsKeysWithCollidingHashes() {
+            var sut = PersistentHashMap.<Collider, Integer>empty()
+                    .assoc(new Collider("a"), 1)
+                    .assoc(new Collider("b"), 2)
+                    .assoc(new Collider("c"), 3)
+                    .assoc(new Collider("b"), 4)
+                    .assoc(new Collider("d"), 5);
+
+            assertThat(sut).hasSize(4);
+            assertThat(sut.get(new Collider("a"))).isEqualTo(1);
+            assertThat(sut.get(new Collider("b"))).isEqualTo(4);
+            assertThat(sut.get(new Collider("c"))).isEqualTo(3);
+            assertThat(sut.get(new Collider("d"))).isEqualTo(5);
+            assertThat(sut.get(new Collider("e"))).isNull();
+        }
+
+        @Test
+        void containsAllOfManyEntries() {
+            var expected = new HashMap<Integer, String>();
+            var sut = PersistentHashMap.<Integer, String>empty();
+            for (int i = 0; i < 100_000; i++) {
+                expected.put(i * 31, String.valueOf(i));
+                sut = sut.assoc(i * 31, String.valueOf(i));
+            }
+
+            assertThat(sut).hasSize(100_000);
+            assertThat(sut).isEqualTo(expected);
+            assertThat(sut.entrySet()).hasSize(100_000);
+        }
+    }
+
+    @Nested
+    class Dissoc {
+
+        @Test
+        void returnsNewMapWithoutKey() {
+            var sut = PersistentHashMap.<String, Integer>empty().assoc("a", 1).assoc("b", 2);
+
+            var actual = sut.dissoc("a");
+
+            assertThat(sut).containsExactlyInAnyOrderEntriesOf(Map.of("a", 1, "b", 2));
+            assertThat(actual).containsExactly(entry("b", 2));
+        }
+
+        @Test
+        void returnsSameMapIfKeyIsNotPresent() {
+            var sut = PersistentHashMap.<String, Integer>empty().assoc("a", 1);
+
+            assertThat(sut.dissoc("b")).isSameAs(sut);
+        }
+
+        @Test
+        void removesNullKey() {
+            var sut = PersistentHashMap.<String, Integer>empty().assoc(null, 1).assoc("a", 2);
+
+            var actual = sut.dissoc(null);
+
+            assertThat(actual).containsExactly(entry("a", 2));
+        }
+
+        @Test
+        void removesKeysWithCollidingHashes() {
+            var sut = PersistentHashMap.<Collider, Integer>empty()
+                    .assoc(new Collider("a"), 1)
+                    .assoc(new Collider("b"), 2);
+
+            var actual = sut.dissoc(new Collider("a"));
+
+            assertThat(actual).containsExactly(entry(new Collider("b"), 2));
+            assertThat(actual.dissoc(new Collider("b"))).isEmpty();
+        }
+
+        @Test
+        void removesAllOfManyEntries() {
+            var sut = PersistentHashMap.<Integer, Integer>empty();
+            for (int i = 0; i < 10_000; i++) {
+                sut = sut.assoc(i, i);
+            }
+
+            for (int i = 0; i < 10_000; i += 2) {
+                sut = sut.dissoc(i);
+            }
+
+            assertThat(sut).hasSize(5_000);
+            assertThat(sut.keySet()).allMatch(x -> x % 2 == 1);
+            for (int i = 1; i < 10_000; i += 2) {
+                sut = sut.dissoc(i);
+            }
+            assertThat(sut).isEmpty();
+        }
+    }
+
+    @Test
+    void getOrDefaultReturnsDefaultIfKeyIsNotPresent() {
+        var sut = PersistentHashMap.<String, Integer>empty().assoc("a", 1);
+
+        assertThat(sut.getOrDefault("a", 0)).isEqualTo(1);
+        assertThat(sut.getOrDefault("b", 0)).isEqualTo(0);
+    }
+
+    @Test
+    void asTransientDoesNotChangeThisMap() {
+        var sut = PersistentHashMap.<String, Integer>empty().assoc("a", 1);
+
+        var actual = sut.asTransient().assoc("a", 2).assoc("b", 3).persistent();
+
+        assertThat(sut).containsExactly(entry("a", 1));
+        assertThat(actual).containsExactlyInAnyOrderEntriesOf(Map.of("a", 2, "b", 3));
+    }
+}
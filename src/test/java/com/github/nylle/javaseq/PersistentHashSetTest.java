@@ -0,0 +1,72 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class PersistentHashSetTest {
+
+    @Test
+    void emptyReturnsEmptySet() {
+        assertThat(PersistentHashSet.empty()).isEmpty();
+    }
+
+    @Test
+    void fromReturnsSetOfAllDistinctItems() {
+        var sut = PersistentHashSet.from(ISeq.of(1, 2, 2, 3, null, null));
+
+        assertThat(sut).hasSize(4).containsExactlyInAnyOrder(1, 2, 3, null);
+    }
+
+    @Test
+    void conjReturnsNewSetWithItemAdded() {
+        var sut = PersistentHashSet.from(Set.of(1));
+
+        var actual = sut.conj(2);
+
+        assertThat(sut).containsExactly(1);
+        assertThat(actual).containsExactlyInAnyOrder(1, 2);
+        assertThat(actual.contains(2)).isTrue();
+    }
+
+    @Test
+    void conjReturnsSameSetIfItemIsPresent() {
+        var sut = PersistentHashSet.from(Set.of("foo"));
+
+        assertThat(sut.conj(new String("foo"))).isSameAs(sut);
+    }
+
+    @Test
+    void disjReturnsNewSetWithItemRemoved() {
+        var sut = PersistentHashSet.from(Set.of(1, 2));
+
+        var actual = sut.disj(1);
+
+        assertThat(sut).containsExactlyInAnyOrder(1, 2);
+        assertThat(actual).containsExactly(2);
+        assertThat(actual.disj(3)).isSameAs(actual);
+    }
+
+    @Test
+    void equalsOtherSetsWithSameItems() {
+        assertThat(PersistentHashSet.from(Set.of(1, 2, 3))).isEqualTo(new HashSet<>(Set.of(3, 2, 1)));
+    }
+
+    @Test
+    void asTransientReturnsTransientCopy() {
+        var sut = PersistentHashSet.from(Set.of(1));
+
+        var actual = sut.asTransient();
+        actual.conj(2).conj(1);
+
+        assertThat(actual.count()).isEqualTo(2);
+        assertThat(actual.contains(2)).isTrue();
+        assertThat(actual.persistent()).containsExactlyInAnyOrder(1, 2);
+        assertThat(sut).containsExactly(1);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> actual.conj(3));
+    }
+}
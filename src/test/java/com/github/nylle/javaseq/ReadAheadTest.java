@@ -0,0 +1,61 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ReadAheadTest {
+
+    @Test
+    void returnsValuesInOrderUntilNull() throws IOException {
+        var counter = new AtomicInteger();
+        var sut = new ReadAhead<>(() -> counter.get() < 3 ? counter.incrementAndGet() : null);
+
+        assertThat(sut.next()).isEqualTo(1);
+        assertThat(sut.next()).isEqualTo(2);
+        assertThat(sut.next()).isEqualTo(3);
+        assertThat(sut.next()).isNull();
+        assertThat(sut.next()).isNull();
+    }
+
+    @Test
+    void readsNextValueOnBackgroundThreadBeforeItIsTaken() throws Exception {
+        var threads = new ConcurrentLinkedQueue<String>();
+        var secondRead = new CountDownLatch(2);
+        var sut = new ReadAhead<>(() -> {
+            threads.add(Thread.currentThread().getName());
+            secondRead.countDown();
+            return "x";
+        });
+
+        sut.next();
+
+        assertThat(secondRead.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).containsOnly("javaseq-read-ahead");
+    }
+
+    @Test
+    void rethrowsExceptionsOfSource() {
+        var sut = new ReadAhead<>(() -> {
+            throw new IOException("boom");
+        });
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(sut::next).withMessage("boom");
+    }
+
+    @Test
+    void rethrowsRuntimeExceptionsOfSource() {
+        var sut = new ReadAhead<>(() -> {
+            throw new IllegalArgumentException("boom");
+        });
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(sut::next).withMessage("boom");
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class RecordSeqTest {
+
+    private static final RecordDecoder<Long> PAIR_SUM = (buffer, offset) -> (long) buffer.getInt(offset) + buffer.getInt(offset + 4);
+
+    private static ByteBuffer[] segments(int records, int recordsPerSegment) {
+        var result = new ByteBuffer[(records + recordsPerSegment - 1) / recordsPerSegment];
+        for (int s = 0; s < result.length; s++) {
+            var buffer = ByteBuffer.allocate(recordsPerSegment * 8);
+            for (int i = 0; i < recordsPerSegment; i++) {
+                var x = s * recordsPerSegment + i;
+                buffer.putInt(i * 8, x).putInt(i * 8 + 4, x);
+            }
+            result[s] = buffer;
+        }
+        return result;
+    }
+
+    private static RecordSeq<Long> sut(int records, int recordsPerSegment) {
+        return new RecordSeq<>(segments(records, recordsPerSegment), recordsPerSegment, 8, PAIR_SUM, 0, records);
+    }
+
+    @Nested
+    class Construct {
+
+        @Test
+        void withNullOrEmptySegmentsThrows() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new RecordSeq<>(null, 1, 8, PAIR_SUM, 0, 1))
+                    .withMessage("segments is null or empty");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new RecordSeq<>(new ByteBuffer[0], 1, 8, PAIR_SUM, 0, 1))
+                    .withMessage("segments is null or empty");
+        }
+
+        @Test
+        void withInvalidRangeThrows() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new RecordSeq<>(segments(4, 2), 2, 8, PAIR_SUM, 0, 5))
+                    .withMessage("end 5 is out of range for 2 segments of 2 records");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> new RecordSeq<>(segments(4, 2), 2, 8, PAIR_SUM, 2, 2))
+                    .withMessage("end 2 must be greater than index 2");
+        }
+    }
+
+    @Test
+    void decodesRecordsAcrossSegments() {
+        var sut = sut(10, 3);
+
+        assertThat(sut).containsExactly(0L, 2L, 4L, 6L, 8L, 10L, 12L, 14L, 16L, 18L);
+        assertThat(sut.first()).isEqualTo(0L);
+        assertThat(sut.last()).isEqualTo(18L);
+        assertThat(sut.isRealized()).isTrue();
+    }
+
+    @Test
+    void countNthTakeAndDropDoNotWalkTheSeq() {
+        var decoded = new ArrayList<Integer>();
+        var segments = segments(1000, 64);
+        var sut = new RecordSeq<Integer>(segments, 64, 8, (buffer, offset) -> {
+            var x = buffer.getInt(offset);
+            decoded.add(x);
+            return x;
+        }, 0, 1000);
+
+        assertThat(sut.count()).isEqualTo(1000);
+        assertThat(sut.longCount()).isEqualTo(1000L);
+        assertThat(sut.nth(700)).isEqualTo(700);
+        assertThat(sut.drop(998)).isExactlyInstanceOf(RecordSeq.class).containsExactly(998, 999);
+        assertThat(sut.drop(10).take(2)).isExactlyInstanceOf(RecordSeq.class).containsExactly(10, 11);
+        assertThat(sut.drop(10).nth(5)).isEqualTo(15);
+        assertThat(decoded).containsExactly(700, 998, 999, 10, 11, 15);
+    }
+
+    @Test
+    void takeAndDropBeyondBounds() {
+        var sut = sut(4, 4);
+
+        assertThat(sut.take(4)).isSameAs(sut);
+        assertThat(sut.take(0)).isEqualTo(Nil.empty());
+        assertThat(sut.drop(0)).isSameAs(sut);
+        assertThat(sut.drop(4)).isEqualTo(Nil.empty());
+        assertThat(sut.nth(4, -1L)).isEqualTo(-1L);
+        assertThat(sut.rest().rest().rest().rest()).isEqualTo(Nil.empty());
+    }
+
+    @Test
+    void mapDecodesChunksWithinSegments() {
+        var actual = sut(100, 40).drop(30).map(x -> x / 2);
+
+        assertThat(actual).isExactlyInstanceOf(LazySeq.class);
+        assertThat(actual.take(1).isRealized()).isFalse();
+        assertThat(actual).hasSize(70).startsWith(30L, 31L).endsWith(99L);
+    }
+
+    @Test
+    void reduceSomeAndEvery() {
+        var sut = sut(10, 4).drop(1);
+
+        assertThat(sut.reduce(0L, (a, b) -> a + b)).isEqualTo(90L);
+        assertThat(sut.some(x -> x == 18L)).isTrue();
+        assertThat(sut.some(x -> x == 0L)).isFalse();
+        assertThat(sut.every(x -> x > 0L)).isTrue();
+        assertThat(sut.every(x -> x > 2L)).isFalse();
+    }
+
+    @Test
+    void viewsReuseOneObjectPerChunk() {
+        var sut = sut(100, 40);
+
+        var views = ((RecordSeq<Long>) sut.drop(5)).views();
+
+        assertThat(views.map(x -> x.getInt(0))).hasSize(95).startsWith(5, 6).endsWith(99);
+        assertThat(views.first()).isSameAs(views.rest().first());
+        assertThat(views.first()).isNotSameAs(views.drop(35).first());
+        assertThat(views.nth(34).getInt(4)).isEqualTo(39);
+        assertThat(views.nth(35).getInt(4)).isEqualTo(40);
+        assertThat(views.first().size()).isEqualTo(8);
+        assertThat(views.first().toByteArray()).containsExactly(0, 0, 0, 5, 0, 0, 0, 5);
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class RopeTest {
+
+    private static Rope ropeOfChunks(String str, int chunkSize) {
+        var result = Rope.of("");
+        for (int i = 0; i < str.length(); i += chunkSize) {
+            result = result.concat(str.substring(i, Math.min(str.length(), i + chunkSize)));
+        }
+        return result;
+    }
+
+    @Test
+    void ofReturnsRopeOfChars() {
+        var sb = new StringBuilder("foo");
+        var sut = Rope.of(sb);
+
+        sb.append("bar");
+
+        assertThat(sut.length()).isEqualTo(3);
+        assertThat(sut.depth()).isZero();
+        assertThat(sut.toString()).isEqualTo("foo");
+        assertThat(Rope.of(sut)).isSameAs(sut);
+        assertThat(Rope.of(null).length()).isZero();
+    }
+
+    @Test
+    void concatMergesSmallLeaves() {
+        var sut = Rope.of("foo").concat("bar").concat(new StringBuilder("baz"));
+
+        assertThat(sut.depth()).isZero();
+        assertThat(sut.toString()).isEqualTo("foobarbaz");
+    }
+
+    @Test
+    void concatStaysBalanced() {
+        var random = new Random(42);
+        var expected = new StringBuilder();
+        var sut = Rope.of("");
+        for (int i = 0; i < 20_000; i++) {
+            var s = "x".repeat(random.nextInt(400)) + i;
+            expected.append(s);
+            sut = sut.concat(s);
+        }
+
+        assertThat(sut.toString()).isEqualTo(expected.toString());
+        assertThat(sut.depth()).isLessThanOrEqualTo(2 * 15);
+    }
+
+    @Test
+    void concatOfRopesKeepsTreeShallow() {
+        var str = "abcdefghijklmnopqrstuvwxyz".repeat(1000);
+        var left = ropeOfChunks(str, 300);
+        var right = ropeOfChunks(str, 7);
+
+        var sut = left.concat(right).concat(left);
+
+        assertThat(sut.toString()).isEqualTo(str + str + str);
+        assertThat(sut.depth()).isLessThanOrEqualTo(Math.max(left.depth(), right.depth()) + 2);
+    }
+
+    @Test
+    void charAt() {
+        var str = "abcdefghijklmnopqrstuvwxyz".repeat(100);
+        var sut = ropeOfChunks(str, 300);
+
+        for (int i = 0; i < str.length(); i++) {
+            assertThat(sut.charAt(i)).isEqualTo(str.charAt(i));
+        }
+        assertThat(sut.charAt(2599)).isEqualTo('z');
+        assertThat(sut.charAt(0)).isEqualTo('a');
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.charAt(2600))
+                .withMessage("Index 2600 out of bounds for length 2600");
+    }
+
+    @Test
+    void subSequenceReturnsRope() {
+        var str = "abcdefghijklmnopqrstuvwxyz".repeat(100);
+        var sut = ropeOfChunks(str, 300);
+
+        assertThat(sut.subSequence(0, 2600)).isSameAs(sut);
+        assertThat(sut.subSequence(250, 1234).toString()).isEqualTo(str.substring(250, 1234));
+        assertThat(sut.subSequence(301, 302).toString()).isEqualTo(str.substring(301, 302));
+        assertThat(sut.subSequence(5, 5).length()).isZero();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.subSequence(5, 4))
+                .withMessage("begin 5, end 4, length 2600");
+    }
+}
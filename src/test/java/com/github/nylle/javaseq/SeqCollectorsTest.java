@@ -0,0 +1,51 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeqCollectorsTest {
+
+    @Test
+    void toSeqReturnsEmptySeqForEmptyStream() {
+        assertThat(Stream.of().collect(SeqCollectors.toSeq())).isEqualTo(Nil.empty());
+    }
+
+    @Test
+    void toSeqReturnsRealizedSeqOfAllItemsInOrder() {
+        var actual = IntStream.range(0, 100).boxed().collect(SeqCollectors.toSeq());
+
+        assertThat(actual).isInstanceOf(ChunkedCons.class).containsExactlyElementsOf(ISeq.range(100));
+        for (var seq = actual; !seq.isEmpty(); seq = seq.rest()) {
+            assertThat(seq.isRealized()).isTrue();
+        }
+    }
+
+    @Test
+    void toSeqKeepsNulls() {
+        assertThat(Stream.of(null, 1, null).collect(SeqCollectors.toSeq())).containsExactly(null, 1, null);
+    }
+
+    @Test
+    void toSeqKeepsEncounterOrderOfParallelStream() {
+        var actual = IntStream.range(0, 100_000).parallel().boxed().filter(x -> x % 3 != 0).collect(SeqCollectors.toSeq());
+
+        assertThat(actual).containsExactlyElementsOf(ISeq.range(100_000).filter(x -> x % 3 != 0));
+    }
+
+    @Test
+    void appendJoinsBuffersInOrder() {
+        var first = new SeqCollectors.ChunkBuffer<Integer>();
+        var second = new SeqCollectors.ChunkBuffer<Integer>();
+        var empty = new SeqCollectors.ChunkBuffer<Integer>();
+        ISeq.range(40).run(first::add);
+        ISeq.range(40, 45).run(second::add);
+
+        var actual = empty.append(first).append(empty).append(second);
+
+        assertThat(actual.seq()).containsExactlyElementsOf(ISeq.range(45));
+    }
+}
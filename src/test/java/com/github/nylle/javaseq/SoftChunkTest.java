@@ -0,0 +1,57 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class SoftChunkTest {
+
+    @Test
+    void returnsOneChunkPerWindowOfSource() {
+        var sut = SoftChunk.seq(ISeq.range(100), x -> x.map(y -> y * 2));
+
+        assertThat(sut).containsExactlyElementsOf(ISeq.range(0, 200, 2));
+    }
+
+    @Test
+    void skipsWindowsWithoutResults() {
+        var sut = SoftChunk.seq(ISeq.range(100), x -> x.filter(y -> y > 90 || y < 2));
+
+        assertThat(sut).containsExactly(0, 1, 91, 92, 93, 94, 95, 96, 97, 98, 99);
+    }
+
+    @Test
+    void recomputesItemsIfCacheWasCleared() {
+        var calls = new AtomicInteger();
+        var sut = SoftChunk.of(ISeq.of(1, 2, 3, 4), x -> {
+            calls.incrementAndGet();
+            return x.mapcat(y -> ISeq.of(y, -y));
+        });
+
+        assertThat(calls).hasValue(1);
+        assertThat(sut.count()).isEqualTo(8);
+
+        sut.clearCache();
+        assertThat(sut.isCached()).isFalse();
+        assertThat(sut.count()).isEqualTo(8);
+        assertThat(calls).hasValue(1);
+
+        assertThat(sut.dropFirst().dropLast(1).nth(5)).isEqualTo(4);
+        assertThat(calls).hasValue(2);
+        assertThat(sut.isCached()).isTrue();
+    }
+
+    @Test
+    void throwsIfPipelineIsNotPure() {
+        var calls = new AtomicInteger();
+        var sut = SoftChunk.of(ISeq.of(1, 2, 3), x -> x.take(calls.incrementAndGet()));
+        sut.clearCache();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> sut.nth(0))
+                .withMessage("pipeline is not pure: expected 1 items but got 2");
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.nylle.javaseq;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential and parallel sorting of an array as done by {@link ASeq#sorted(Comparator)}, as well as the
+ * full round trip through an {@link ArraySeq}.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.github.nylle.javaseq.SortedBenchmark}
+ * or from the IDE. The largest size needs a heap of several GB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms12g", "-Xmx12g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class SortedBenchmark {
+
+    @Param({"100000", "1000000", "10000000", "100000000"})
+    private int size;
+
+    private Integer[] source;
+    private Integer[] array;
+    private ISeq<Integer> seq;
+
+    @Setup(Level.Trial)
+    public void createSource() {
+        var random = new Random(42);
+        source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+        }
+        seq = ISeq.of(source);
+    }
+
+    @Setup(Level.Invocation)
+    public void copySource() {
+        array = source.clone();
+    }
+
+    @Benchmark
+    public Integer[] sequential() {
+        Arrays.sort(array, Comparator.naturalOrder());
+        return array;
+    }
+
+    @Benchmark
+    public Integer[] parallel() {
+        Arrays.parallelSort(array, Comparator.naturalOrder());
+        return array;
+    }
+
+    @Benchmark
+    public ISeq<Integer> sorted() {
+        return seq.sorted(Comparator.naturalOrder());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SortedBenchmark.class.getSimpleName()).build()).run();
+    }
+}
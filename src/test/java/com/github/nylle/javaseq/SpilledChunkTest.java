@@ -0,0 +1,110 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class SpilledChunkTest {
+
+    private static SpilledChunk<String> from(String... items) {
+        return SpilledChunk.spill(new SpilledChunk.SpillFile(), Codec.strings(), items, items.length);
+    }
+
+    @Test
+    void nth() {
+        var sut = from("-1", "0", "1", "2", "3", "4").dropFirst().dropLast(1);
+
+        assertThat(sut.nth(0)).isEqualTo("0");
+        assertThat(sut.nth(3)).isEqualTo("3");
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nth(4))
+                .withMessage("Index 4 out of bounds for length 4");
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> sut.nth(-1))
+                .withMessage("Index -1 out of bounds for length 4");
+    }
+
+    @Test
+    void count() {
+        assertThat(from("a", "b", "c").count()).isEqualTo(3);
+        assertThat(from("a", "b", "c").dropFirst().dropLast(1).count()).isEqualTo(1);
+    }
+
+    @Test
+    void readsItemsBackFromFileIfCacheWasCleared() {
+        var sut = from("a", "bb", "ccc");
+
+        assertThat(sut.isCached()).isTrue();
+        sut.clearCache();
+        assertThat(sut.isCached()).isFalse();
+
+        assertThat(sut.nth(0)).isEqualTo("a");
+        assertThat(sut.dropFirst().nth(1)).isEqualTo("ccc");
+        assertThat(sut.isCached()).isTrue();
+    }
+
+    @Test
+    void readsBackChunksSharingOneFile() {
+        var file = new SpilledChunk.SpillFile();
+        var first = SpilledChunk.spill(file, Codec.integers(), new Integer[]{1, 2}, 2);
+        var second = SpilledChunk.spill(file, Codec.integers(), new Integer[]{3, 4, 5}, 3);
+        first.clearCache();
+        second.clearCache();
+
+        assertThat(second.nth(0)).isEqualTo(3);
+        assertThat(second.nth(2)).isEqualTo(5);
+        assertThat(first.nth(1)).isEqualTo(2);
+    }
+
+    @Test
+    void mapsEachWindowOnceForChunksWrittenBeforeReading() {
+        var file = new SpilledChunk.SpillFile(64);
+        var chunks = new ArrayList<SpilledChunk<Integer>>();
+        for (int i = 0; i < 32; i++) {
+            chunks.add(SpilledChunk.spill(file, Codec.integers(), new Integer[]{i, i + 1, i + 2}, 3));
+        }
+        chunks.forEach(SpilledChunk::clearCache);
+
+        for (int i = 0; i < 32; i++) {
+            assertThat(chunks.get(i).nth(0)).isEqualTo(i);
+            assertThat(chunks.get(i).nth(2)).isEqualTo(i + 2);
+        }
+        assertThat(file.mappings()).isEqualTo(7);
+    }
+
+    @Test
+    void readsBackChunksAppendedAfterTheirWindowWasMapped() {
+        var file = new SpilledChunk.SpillFile(64);
+        var first = SpilledChunk.spill(file, Codec.integers(), new Integer[]{1, 2}, 2);
+        first.clearCache();
+        assertThat(first.nth(0)).isEqualTo(1);
+
+        var second = SpilledChunk.spill(file, Codec.integers(), new Integer[]{3, 4}, 2);
+        second.clearCache();
+
+        assertThat(second.nth(1)).isEqualTo(4);
+        assertThat(file.mappings()).isEqualTo(2);
+    }
+
+    @Test
+    void readsBackChunksThatDoNotFitIntoOneWindow() {
+        var file = new SpilledChunk.SpillFile(16);
+        var small = SpilledChunk.spill(file, Codec.integers(), new Integer[]{1, 2, 3}, 3);
+        var large = SpilledChunk.spill(file, Codec.integers(), new Integer[]{4, 5, 6, 7, 8, 9}, 6);
+        var padded = SpilledChunk.spill(file, Codec.integers(), new Integer[]{10, 11}, 2);
+        small.clearCache();
+        large.clearCache();
+        padded.clearCache();
+
+        assertThat(small.nth(2)).isEqualTo(3);
+        assertThat(large.nth(0)).isEqualTo(4);
+        assertThat(large.nth(5)).isEqualTo(9);
+        assertThat(padded.nth(1)).isEqualTo(11);
+        assertThat(file.mappings()).isEqualTo(3);
+    }
+}
@@ -7,7 +7,11 @@ import org.mockito.Mockito;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Consumer;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -1174,4 +1178,271 @@ class StringSeqTest {
 
         assertThat(sut).hasToString("[b, a, r]");
     }
-}
\ No newline at end of file
+
+    @Nested
+    class UnboxedChars {
+
+        private StringSeq sut(String str) {
+            return new StringSeq("_" + str + "_", 1, str.length() + 1);
+        }
+
+        @Test
+        void firstCharAndNthChar() {
+            var sut = sut("foo");
+
+            assertThat(sut.firstChar()).isEqualTo('f');
+            assertThat(sut.nthChar(2)).isEqualTo('o');
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> sut.nthChar(3))
+                    .withMessage("Index 3 out of bounds for length 3");
+        }
+
+        @Test
+        void filterCharsReturnsLazySeqOfMatchingChars() {
+            var str = "a1b2c3".repeat(20);
+            var actual = sut(str).filterChars(Character::isDigit);
+
+            assertThat(actual).isInstanceOf(LazySeq.class);
+            assertThat(actual.isRealized()).isFalse();
+            assertThat(actual.str()).isEqualTo("123".repeat(20));
+            assertThat(sut("abc").filterChars(Character::isDigit)).isEmpty();
+            assertThat(sut("a".repeat(40) + "1").filterChars(Character::isDigit)).containsExactly('1');
+        }
+
+        @Test
+        void mapCharsReturnsLazySeqOfMappedChars() {
+            var actual = sut("foobar".repeat(10)).mapChars(Character::toUpperCase);
+
+            assertThat(actual).isInstanceOf(LazySeq.class);
+            assertThat(actual.isRealized()).isFalse();
+            assertThat(actual.str()).isEqualTo("FOOBAR".repeat(10));
+        }
+
+        @Test
+        void reduceSomeAndEveryChars() {
+            var sut = sut("abc");
+
+            assertThat(sut.reduceChars(new StringBuilder(), StringBuilder::append).toString()).isEqualTo("abc");
+            assertThat(sut.reduceChars(0, (acc, c) -> acc + c)).isEqualTo('a' + 'b' + 'c');
+            assertThat(sut.someChar(c -> c == 'c')).isTrue();
+            assertThat(sut.someChar(c -> c == '_')).isFalse();
+            assertThat(sut.everyChar(Character::isLetter)).isTrue();
+            assertThat(sut.everyChar(c -> c < 'c')).isFalse();
+        }
+
+        @Test
+        void indexOfAndCountChars() {
+            var sut = sut("banana");
+
+            assertThat(sut.indexOf('n')).isEqualTo(2);
+            assertThat(sut.indexOf('_')).isEqualTo(-1);
+            assertThat(sut.indexOf((Object) 'n')).isEqualTo(2);
+            assertThat(sut.indexOf("n")).isEqualTo(-1);
+            assertThat(sut.countChars('a')).isEqualTo(3);
+            assertThat(sut.countChars(c -> c != 'a')).isEqualTo(3);
+        }
+
+        @Test
+        void splitReturnsSlicesBetweenSeparators() {
+            assertThat(sut("a,bc,,d").split(',').map(Object::toString)).containsExactly("a", "bc", "", "d");
+            assertThat(sut(",a,").split(',').map(Object::toString)).containsExactly("", "a", "");
+            assertThat(sut("abc").split(',').map(Object::toString)).containsExactly("abc");
+            assertThat(sut("abc").split(',').first()).isEqualTo(new CharSlice("abc", 0, 3));
+        }
+
+        @Test
+        void splitIsLazyAcrossChunks() {
+            var str = "x,".repeat(100);
+
+            var actual = sut(str).split(',');
+
+            assertThat(actual.isRealized()).isFalse();
+            assertThat(actual).hasSize(101);
+            assertThat(actual.take(100).every(x -> x.toString().equals("x"))).isTrue();
+            assertThat(actual.last().length()).isZero();
+        }
+    }
+
+    @Nested
+    class Empty {
+
+        private final StringSeq sut = ISeq.stringSeq("");
+
+        @Test
+        void isEmpty() {
+            assertThat(sut).isEmpty();
+            assertThat(sut.isEmpty()).isTrue();
+            assertThat(sut.count()).isZero();
+            assertThat(sut.first()).isNull();
+            assertThat(sut.last()).isNull();
+            assertThat(sut.rest()).isEmpty();
+            assertThat(sut.reverse()).isEmpty();
+            assertThat(sut.str()).isEmpty();
+            assertThat(ISeq.stringSeq(null)).isEmpty();
+            assertThat(ISeq.seq("")).isSameAs(ISeq.of());
+        }
+
+        @Test
+        void unboxedOperationsReturnEmptyResults() {
+            assertThat(sut.filterChars(c -> true)).isEmpty();
+            assertThat(sut.mapChars(c -> c)).isEmpty();
+            assertThat(sut.reduceChars(0, (acc, c) -> acc + 1)).isZero();
+            assertThat(sut.someChar(c -> true)).isFalse();
+            assertThat(sut.everyChar(c -> false)).isTrue();
+            assertThat(sut.indexOf('a')).isEqualTo(-1);
+            assertThat(sut.countChars('a')).isZero();
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(sut::firstChar);
+        }
+
+        @Test
+        void seqOperationsTreatItAsEmpty() {
+            assertThat(sut.take(3)).isEmpty();
+            assertThat(sut.drop(3)).isEmpty();
+            assertThat(sut.map(x -> x)).isEmpty();
+            assertThat(sut.filter(x -> true)).isEmpty();
+            assertThat(sut.cons('a')).containsExactly('a');
+            assertThat(sut).isEqualTo(ISeq.of());
+        }
+    }
+
+    @Nested
+    class ReSeq {
+
+        @Test
+        void returnsLazySeqOfMatchesRelativeToSeq() {
+            var sut = new StringSeq("a=1;b=22;c=333", 4, 14);
+
+            var actual = sut.reSeq(Pattern.compile("(\\w)=(\\d+)"));
+
+            assertThat(actual.isRealized()).isFalse();
+            assertThat(actual.map(MatchResult::group)).containsExactly("b=22", "c=333");
+            assertThat(actual.map(x -> x.group(2))).containsExactly("22", "333");
+            assertThat(actual.first().start()).isEqualTo(0);
+            assertThat(actual.second().start(2)).isEqualTo(7);
+        }
+
+        @Test
+        void anchorsMatchAtBoundsOfSeq() {
+            var sut = new StringSeq("xabcx", 1, 4);
+
+            assertThat(sut.reSliceSeq(Pattern.compile("^\\w+$")).map(Object::toString)).containsExactly("abc");
+        }
+
+        @Test
+        void yieldsMatchesInChunks() {
+            var sut = ISeq.stringSeq("a1".repeat(100));
+
+            var actual = sut.reSliceSeq(Pattern.compile("\\d"));
+
+            assertThat(actual).hasSize(100);
+            assertThat(actual.every(x -> x.toString().equals("1"))).isTrue();
+            assertThat(sut.reSeq(Pattern.compile("z"))).isEmpty();
+        }
+    }
+
+    @Nested
+    class Split {
+
+        private ISeq<String> strings(ISeq<CharSequence> slices) {
+            return slices.map(CharSequence::toString);
+        }
+
+        @Test
+        void splitsAtDelimiter() {
+            var sut = new StringSeq("_a::b::::c_", 1, 10);
+
+            assertThat(strings(sut.split("::"))).containsExactly("a", "b", "", "c");
+            assertThat(strings(sut.split(":::"))).containsExactly("a::b", ":c");
+            assertThat(strings(sut.split(":"))).containsExactly("a", "", "b", "", "", "", "c");
+            assertThat(strings(sut.split("xy"))).containsExactly("a::b::::c");
+            assertThat(strings(ISeq.stringSeq("::a::").split("::"))).containsExactly("", "a", "");
+        }
+
+        @Test
+        void splitAtEmptyDelimiterThrows() {
+            var sut = ISeq.stringSeq("abc");
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> sut.split(""))
+                    .withMessage("delimiter is null or empty");
+        }
+
+        @Test
+        void splitIsLazyAcrossChunks() {
+            var sut = ISeq.stringSeq("ab, ".repeat(70) + "ab");
+
+            var actual = sut.split(", ");
+
+            assertThat(actual.isRealized()).isFalse();
+            assertThat(strings(actual)).hasSize(71).allMatch(x -> x.equals("ab"));
+        }
+
+        @Test
+        void splitLines() {
+            assertThat(strings(ISeq.stringSeq("a\nb\r\nc\rd").splitLines())).containsExactly("a", "b", "c", "d");
+            assertThat(strings(ISeq.stringSeq("a\n\nb\n").splitLines())).containsExactly("a", "", "b");
+            assertThat(strings(ISeq.stringSeq("\n").splitLines())).containsExactly("");
+            assertThat(strings(ISeq.stringSeq("\r\n\r\n").splitLines())).containsExactly("", "");
+        }
+
+        @Test
+        void splitLinesMatchesStringLinesAcrossChunks() {
+            for (var lines : List.of(31, 32, 33, 64, 100)) {
+                var str = "line\n".repeat(lines - 1) + "last";
+                var sut = ISeq.stringSeq(str);
+
+                assertThat(strings(sut.splitLines())).containsExactlyElementsOf(str.lines().collect(Collectors.toList()));
+                assertThat(strings(ISeq.stringSeq(str + "\r\n").splitLines())).hasSize(lines);
+            }
+        }
+    }
+
+    @Nested
+    class IndexOfSubseq {
+
+        @Test
+        void returnsIndexOfFirstOccurrenceInSeq() {
+            var sut = new StringSeq("xxabcabdabcabcxx", 2, 14);
+
+            assertThat(sut.indexOfSubseq("abcabc")).isEqualTo(6);
+            assertThat(sut.indexOfSubseq("bd")).isEqualTo(4);
+            assertThat(sut.indexOfSubseq("c")).isEqualTo(2);
+            assertThat(sut.indexOfSubseq("")).isEqualTo(0);
+            assertThat(sut.indexOfSubseq("abcx")).isEqualTo(-1);
+            assertThat(sut.indexOfSubseq("abcabdabcabcx")).isEqualTo(-1);
+            assertThat(sut.containsSubseq("dab")).isTrue();
+            assertThat(sut.containsSubseq("xx")).isFalse();
+        }
+
+        @Test
+        void acceptsCharacterSeqs() {
+            var sut = ISeq.stringSeq("foobar");
+
+            assertThat(sut.indexOfSubseq(ISeq.seq("bar"))).isEqualTo(3);
+            assertThat(sut.indexOfSubseq(List.of('o', 'b'))).isEqualTo(2);
+            assertThat(sut.indexOfSubseq(List.of("o", "b"))).isEqualTo(-1);
+            assertThat(sut.indexOfSubseq(List.of())).isEqualTo(0);
+            assertThat(sut.containsSubseq(ISeq.seq("oba"))).isTrue();
+        }
+
+        @Test
+        void agreesWithStringIndexOf() {
+            var random = new Random(42);
+            for (int n = 0; n < 500; n++) {
+                var text = randomString(random, 1 + random.nextInt(200), "ab\u0161\u0261");
+                var needle = randomString(random, 1 + random.nextInt(6), "ab\u0161\u0261");
+                var sut = ISeq.stringSeq(text);
+
+                assertThat(sut.indexOfSubseq(needle)).as(text + " / " + needle).isEqualTo(text.indexOf(needle));
+            }
+        }
+
+        private String randomString(Random random, int length, String alphabet) {
+            var sb = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            return sb.toString();
+        }
+    }
+}
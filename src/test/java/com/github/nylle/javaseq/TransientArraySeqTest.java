@@ -0,0 +1,51 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class TransientArraySeqTest {
+
+    @Test
+    void persistentReturnsSeqOfAllItemsInOrder() {
+        var sut = Util.<Integer>transientArraySeq(2);
+        for (int i = 0; i < 1000; i++) {
+            sut.conj(i);
+        }
+
+        var actual = sut.persistent();
+
+        assertThat(actual).isExactlyInstanceOf(ArraySeq.class);
+        assertThat(actual).containsExactlyElementsOf(ISeq.range(1000));
+    }
+
+    @Test
+    void conjAllAppendsAllItems() {
+        var sut = Util.<String>transientArraySeq();
+
+        sut.conj("a").conjAll(List.of("b", "c")).conj(null);
+
+        assertThat(sut.count()).isEqualTo(4);
+        assertThat(sut.persistent()).containsExactly("a", "b", "c", null);
+    }
+
+    @Test
+    void persistentReturnsEmptySeqIfNothingWasAdded() {
+        assertThat(Util.transientArraySeq().persistent()).isExactlyInstanceOf(Nil.class);
+    }
+
+    @Test
+    void throwsWhenUsedAfterPersistent() {
+        var sut = Util.<Integer>transientArraySeq();
+        sut.conj(1).persistent();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> sut.conj(2))
+                .withMessage("transient used after persistent() call");
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> sut.count());
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> sut.persistent());
+    }
+}
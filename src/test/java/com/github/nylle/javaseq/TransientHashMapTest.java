@@ -0,0 +1,84 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class TransientHashMapTest {
+
+    @Test
+    void assocAddsEntries() {
+        var sut = PersistentHashMap.<String, Integer>empty().asTransient();
+
+        sut.assoc("a", 1).assoc("b", 2).assoc(null, 3);
+
+        assertThat(sut.count()).isEqualTo(3);
+        assertThat(sut.get("a")).isEqualTo(1);
+        assertThat(sut.get("b")).isEqualTo(2);
+        assertThat(sut.get(null)).isEqualTo(3);
+        assertThat(sut.containsKey("c")).isFalse();
+    }
+
+    @Test
+    void assocReplacesValueOfExistingKey() {
+        var sut = PersistentHashMap.<String, Integer>empty().asTransient();
+
+        sut.assoc("a", 1).assoc("a", 2).assoc(null, 3).assoc(null, 4);
+
+        assertThat(sut.count()).isEqualTo(2);
+        assertThat(sut.get("a")).isEqualTo(2);
+        assertThat(sut.get(null)).isEqualTo(4);
+    }
+
+    @Test
+    void persistentReturnsMapWithAllEntries() {
+        var expected = new HashMap<Integer, Integer>();
+        var sut = PersistentHashMap.<Integer, Integer>empty().asTransient();
+        for (int i = 0; i < 100_000; i++) {
+            expected.put(i, -i);
+            sut.assoc(i, -i);
+        }
+
+        var actual = sut.persistent();
+
+        assertThat(actual).hasSize(100_000).isEqualTo(expected);
+    }
+
+    @Test
+    void persistentMapIsNotAffectedByNewTransient() {
+        var sut = PersistentHashMap.<Integer, Integer>empty().asTransient();
+        for (int i = 0; i < 1000; i++) {
+            sut.assoc(i, i);
+        }
+        var persistent = sut.persistent();
+
+        var other = persistent.asTransient();
+        for (int i = 0; i < 2000; i++) {
+            other.assoc(i, -i);
+        }
+
+        assertThat(persistent).hasSize(1000).allSatisfy((k, v) -> assertThat(v).isEqualTo(k));
+        assertThat(other.persistent()).hasSize(2000).allSatisfy((k, v) -> assertThat(v).isEqualTo(-k));
+    }
+
+    @Test
+    void throwsWhenUsedAfterPersistent() {
+        var sut = PersistentHashMap.<String, Integer>empty().asTransient();
+        sut.assoc("a", 1).persistent();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> sut.assoc("b", 2))
+                .withMessage("transient used after persistent() call");
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> sut.get("a"));
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> sut.persistent());
+    }
+
+    @Test
+    void persistentOfEmptyTransientReturnsEmptyMap() {
+        assertThat(PersistentHashMap.from(Map.of()).asTransient().persistent()).isEmpty();
+    }
+}
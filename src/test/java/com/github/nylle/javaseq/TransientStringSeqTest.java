@@ -0,0 +1,38 @@
+package com.github.nylle.javaseq;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class TransientStringSeqTest {
+
+    @Test
+    void persistentReturnsSeqOfAllCharacters() {
+        var sut = Util.transientStringSeq(4);
+
+        sut.conj('f').conj("oo").conj(new StringBuilder("bar"));
+
+        assertThat(sut.count()).isEqualTo(6);
+        var actual = sut.persistent();
+        assertThat(actual).isExactlyInstanceOf(StringSeq.class);
+        assertThat(actual.str()).isEqualTo("foobar");
+    }
+
+    @Test
+    void persistentReturnsEmptySeqIfNothingWasAdded() {
+        assertThat(Util.transientStringSeq().persistent()).isExactlyInstanceOf(Nil.class);
+    }
+
+    @Test
+    void throwsWhenUsedAfterPersistent() {
+        var sut = Util.transientStringSeq();
+        sut.conj("foo").persistent();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> sut.conj('x'))
+                .withMessage("transient used after persistent() call");
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> sut.count());
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> sut.persistent());
+    }
+}
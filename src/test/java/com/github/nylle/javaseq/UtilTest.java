@@ -4,17 +4,36 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 class UtilTest {
 
@@ -107,6 +126,57 @@ class UtilTest {
         }
     }
 
+    @Nested
+    @DisplayName("chunkIteratorSeq with codec")
+    class SpillingChunkIteratorSeqTest {
+
+        @Test
+        void returnsAllItemsInOrder() {
+            var actual = Util.chunkIteratorSeq(ISeq.range(1000).iterator(), Codec.integers(), 100);
+
+            assertThat(actual).containsExactlyElementsOf(ISeq.range(1000));
+            assertThat(actual.count()).isEqualTo(1000);
+        }
+
+        @Test
+        void keepsItemsWithinBudgetOnHeapAndSpillsTheRest() {
+            var written = new ArrayList<Integer>();
+            var codec = new Codec<Integer>() {
+                @Override
+                public void write(Integer x, DataOutput out) throws IOException {
+                    written.add(x);
+                    out.writeInt(x);
+                }
+
+                @Override
+                public Integer read(DataInput in) throws IOException {
+                    return in.readInt();
+                }
+            };
+
+            assertThat(Util.chunkIteratorSeq(ISeq.range(100).iterator(), codec, 100)).hasSize(100);
+            assertThat(written).isEmpty();
+
+            assertThat(Util.chunkIteratorSeq(ISeq.range(100).iterator(), codec, 64)).hasSize(100);
+            assertThat(written).containsExactlyElementsOf(ISeq.range(64, 100));
+        }
+
+        @Test
+        void spillsAllItemsIfBudgetIsZero() {
+            var sut = Util.chunkIteratorSeq(ISeq.range(200).map(String::valueOf).iterator(), Codec.strings(), 0);
+            sut.count();
+
+            assertThat(sut).containsExactlyElementsOf(ISeq.range(200).map(String::valueOf));
+        }
+
+        @Test
+        void throwsIfMemoryBudgetIsNegative() {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> Util.chunkIteratorSeq(List.of(1).iterator(), Codec.integers(), -1))
+                    .withMessage("memoryBudget must not be negative");
+        }
+    }
+
     @Nested
     @DisplayName("conj")
     class ConjTest {
@@ -120,6 +190,41 @@ class UtilTest {
         void returnsNewSetWithXAdded() {
             assertThat(Util.conj(Set.of(1), 2)).isInstanceOf(Set.class).containsExactlyInAnyOrder(1, 2);
         }
+
+        @Test
+        void returnsPersistentSetThatIsNotCopiedOnFurtherConj() {
+            var sut = Util.conj(Set.of(1), 2);
+
+            var actual = Util.conj(sut, 3);
+
+            assertThat(sut).isInstanceOf(PersistentHashSet.class).containsExactlyInAnyOrder(1, 2);
+            assertThat(actual).isInstanceOf(PersistentHashSet.class).containsExactlyInAnyOrder(1, 2, 3);
+        }
+
+        @Test
+        void throwsIfSetOrXIsNull() {
+            var set = new HashSet<Integer>();
+            set.add(null);
+
+            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> Util.conj(Set.of(1), 2, null));
+            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> Util.conj(set, 1));
+        }
+
+        @Test
+        void returnsPersistentListThatIsNotCopiedOnFurtherConj() {
+            var sut = Util.conj(List.of(1), 2);
+
+            var actual = Util.conj(Util.conj(sut, 3), 4, 5);
+
+            assertThat(sut).isInstanceOf(PersistentArrayList.class).containsExactly(1, 2);
+            assertThat(actual).isInstanceOf(PersistentArrayList.class).containsExactly(1, 2, 3, 4, 5);
+        }
+
+        @Test
+        void throwsIfListOrXIsNull() {
+            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> Util.conj(List.of(1), 2, null));
+            assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> Util.conj(Arrays.asList(1, null), 2));
+        }
     }
 
     @Test
@@ -141,6 +246,320 @@ class UtilTest {
         }
     }
 
+    @Test
+    void chunkInputStreamSeqDecodesCharactersAcrossBufferBoundaries() throws IOException {
+        var text = "ä€😀".repeat(5000);
+        var tmpFile = File.createTempFile("test", ".tmp");
+        Files.writeString(tmpFile.toPath(), text, StandardCharsets.UTF_8);
+
+        try (var inputStream = new FileInputStream(tmpFile)) {
+            assertThat(Util.chunkInputStreamSeq(inputStream, StandardCharsets.UTF_8).str()).isEqualTo(text);
+        }
+    }
+
+    @Test
+    void chunkChannelSeq() throws IOException {
+        var channel = Channels.newChannel(new ByteArrayInputStream("Hello world!".getBytes(StandardCharsets.UTF_8)));
+
+        var sut = Util.chunkChannelSeq(channel, StandardCharsets.UTF_8);
+
+        assertThat(sut.str()).isEqualTo("Hello world!");
+        assertThat(Util.chunkChannelSeq(Channels.newChannel(new ByteArrayInputStream(new byte[0])), StandardCharsets.UTF_8)).isEmpty();
+    }
+
+    @Test
+    void mappedCharSequence() throws IOException {
+        var tmpFile = File.createTempFile("test", ".tmp");
+        Files.writeString(tmpFile.toPath(), "Hello wörld!", StandardCharsets.ISO_8859_1);
+
+        var sut = Util.mappedCharSequence(tmpFile.toPath());
+
+        assertThat(sut.length()).isEqualTo(12);
+        assertThat(sut.toString()).isEqualTo("Hello wörld!");
+    }
+
+    @Test
+    void mappedStringSeq() throws IOException {
+        var tmpFile = File.createTempFile("test", ".tmp");
+        Files.writeString(tmpFile.toPath(), "Hello world!\nfoo\nbar", StandardCharsets.US_ASCII);
+
+        var sut = Util.mappedStringSeq(tmpFile.toPath());
+
+        assertThat(sut).isExactlyInstanceOf(StringSeq.class);
+        assertThat(sut.count()).isEqualTo(20);
+        assertThat(sut.nth(11)).isEqualTo('!');
+        assertThat(sut.drop(13).take(3)).containsExactly('f', 'o', 'o');
+        assertThat(sut.str()).isEqualTo("Hello world!\nfoo\nbar");
+    }
+
+    @Test
+    void mappedStringSeqConcatenatesWindowsOfLargeFiles() throws IOException {
+        var text = "0123456789".repeat(2000);
+        var tmpFile = File.createTempFile("test", ".tmp");
+        Files.writeString(tmpFile.toPath(), text, StandardCharsets.US_ASCII);
+
+        var sut = Util.mappedStringSeq(tmpFile.toPath(), 7);
+
+        assertThat(sut).isExactlyInstanceOf(MappedStringSeq.class);
+        assertThat(sut.count()).isEqualTo(20000);
+        assertThat(sut.nth(19_999)).isEqualTo('9');
+        assertThat(sut.drop(12_345).take(4)).containsExactly('5', '6', '7', '8');
+        assertThat(sut.str()).isEqualTo(text);
+        assertThat(Util.mappedStringSeq(File.createTempFile("test", ".tmp").toPath())).isEmpty();
+    }
+
+    @Test
+    void readAheadChannelSeq() throws IOException {
+        var text = "äöü €uro 😀\n".repeat(10_000);
+        var tmpFile = File.createTempFile("test", ".tmp");
+        Files.writeString(tmpFile.toPath(), text, StandardCharsets.UTF_8);
+
+        try (var channel = FileChannel.open(tmpFile.toPath())) {
+            var sut = Util.readAheadChannelSeq(channel, StandardCharsets.UTF_8);
+
+            assertThat(sut.isRealized()).isFalse();
+            assertThat(sut.str()).isEqualTo(text);
+        }
+    }
+
+    @Test
+    void chunkByteSeq() throws IOException {
+        var bytes = new byte[20_000];
+        new Random(42).nextBytes(bytes);
+
+        var sut = Util.chunkByteSeq(new ByteArrayInputStream(bytes));
+
+        assertThat(sut.count()).isEqualTo(20_000);
+        assertThat(sut.nth(19_999)).isEqualTo(bytes[19_999]);
+        assertThat(Util.chunkByteSeq(new ByteArrayInputStream(new byte[0]))).isEmpty();
+    }
+
+    @Test
+    void chunkByteSeqWaitsForNonBlockingChannel() throws Exception {
+        var pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        var writer = new Thread(() -> {
+            try (var sink = pipe.sink()) {
+                for (int i = 0; i < 3; i++) {
+                    Thread.sleep(20);
+                    sink.write(ByteBuffer.wrap(new byte[]{(byte) i, (byte) i}));
+                }
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        writer.start();
+
+        var sut = Util.chunkByteSeq(pipe.source());
+
+        assertThat(sut).containsExactly((byte) 0, (byte) 0, (byte) 1, (byte) 1, (byte) 2, (byte) 2);
+        writer.join();
+    }
+
+    @Test
+    void chunkByteSeqYieldsBytesReadBeforeAChannelReturnsZero() {
+        var reads = new ArrayDeque<>(List.of(new byte[]{1, 2}, new byte[0], new byte[0], new byte[]{3}));
+        var channel = new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) {
+                if (reads.isEmpty()) {
+                    return -1;
+                }
+                var bytes = reads.poll();
+                dst.put(bytes);
+                return bytes.length;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        var sut = Util.chunkByteSeq(channel);
+
+        assertThat(sut.first()).isEqualTo((byte) 1);
+        assertThat(reads).hasSize(2);
+        assertThat(sut).containsExactly((byte) 1, (byte) 2, (byte) 3);
+    }
+
+    @Test
+    void mappedByteSeq() throws IOException {
+        var tmpFile = File.createTempFile("test", ".tmp");
+        Files.write(tmpFile.toPath(), new byte[]{1, 2, 3});
+
+        var sut = Util.mappedByteSeq(tmpFile.toPath());
+
+        assertThat(sut).isExactlyInstanceOf(ByteSeq.class).containsExactly((byte) 1, (byte) 2, (byte) 3);
+    }
+
+    @Test
+    void reSeq() {
+        var log = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            log.append("INFO started id=").append(i).append('\n').append("ERROR failed id=").append(i).append('\n');
+        }
+        var re = Pattern.compile("(?m)^ERROR .* id=(\\d+)$");
+
+        var actual = Util.reSeq(re, log);
+
+        assertThat(actual.isRealized()).isFalse();
+        assertThat(actual.map(x -> x.group(1))).hasSize(100).startsWith("0", "1").endsWith("99");
+        assertThat(Util.reSliceSeq(re, log).first()).hasToString("ERROR failed id=0");
+        assertThat(Util.reSeq(Pattern.compile("x*"), "").map(MatchResult::group)).containsExactly("");
+        assertThat(Util.reSeq(Pattern.compile("x"), "")).isEmpty();
+    }
+
+    @Test
+    void chunkSeqReturnsChunksOfSeq() {
+        var chunked = Util.chunkedCons(new StringChunk("abc", 0, 3), ISeq.lazySeq(() -> Util.chunkedCons(new StringChunk("de", 0, 2), ISeq.of('f'))));
+
+        var actual = Util.chunkSeq(ISeq.lazySeq(() -> chunked));
+
+        assertThat(actual.isRealized()).isFalse();
+        assertThat(actual.map(IChunk::count)).containsExactly(3, 2, 1);
+        assertThat(actual.first()).isInstanceOf(StringChunk.class);
+        assertThat(actual.last().nth(0)).isEqualTo('f');
+        assertThat(chunked).containsExactly('a', 'b', 'c', 'd', 'e', 'f');
+        assertThat(Util.chunkSeq(ISeq.of())).isEmpty();
+        assertThat(Util.chunkedCons(new StringChunk("abc", 1, 1), ISeq.of('x'))).containsExactly('x');
+    }
+
+    @Test
+    void reSeqOfChunkedSeqFindsMatchesAcrossChunks() {
+        var text = "ab12 foo 345ab az\nfoofoo 6 aaz b\nfoo";
+        var patterns = List.of("\\d+", "x*", "ab|b", "(?<=a)b", "\\bfoo\\b", "a.*?z", "^\\w+", "(?m)^\\w+", "(?m)\\w+$", "$", "(\\d)(\\d)?");
+
+        for (var size = 1; size <= 7; size++) {
+            var chars = chunks(text, size);
+
+            for (var pattern : patterns) {
+                var re = Pattern.compile(pattern);
+                var expected = re.matcher(text).results().map(m -> m.start() + ":" + m.group() + ":" + m.group(m.groupCount())).toList();
+
+                var actual = Util.reSeq(re, chars);
+
+                assertThat(actual.map(m -> m.start() + ":" + m.group() + ":" + m.group(m.groupCount())))
+                        .as("%s in chunks of %d", pattern, size)
+                        .containsExactlyElementsOf(expected);
+                assertThat(Util.reSliceSeq(re, chars).map(Object::toString))
+                        .containsExactlyElementsOf(re.matcher(text).results().map(MatchResult::group).toList());
+            }
+        }
+    }
+
+    @Test
+    void reSeqKeepsContextOfMatchesSpanningManyChunks() {
+        var texts = List.of("qy" + "b".repeat(70) + "c", "a".repeat(100), "x" + "b".repeat(100) + "c");
+        var patterns = List.of("^y?b+c|yb+d", "(?<=q)y?b+c|yb+d", "\\Ba+", "\\ba+", "(?<=x)b+c|^b+d");
+
+        for (var text : texts) {
+            var chars = ISeq.seq(text.chars().mapToObj(c -> (char) c).toList().iterator());
+            for (var pattern : patterns) {
+                var re = Pattern.compile(pattern);
+                var expected = re.matcher(text).results().map(m -> m.start() + ":" + m.group()).toList();
+
+                assertThat(Util.reSeq(re, chars).map(m -> m.start() + ":" + m.group()))
+                        .as("%s in %s", pattern, text)
+                        .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    void reSeqOfChannelSeqIsLazy() {
+        var log = "INFO started\nERROR failed id=1\n".repeat(1000) + "ERROR failed id=2";
+        var re = Pattern.compile("(?m)^ERROR .* id=(\\d+)$");
+        var decoder = new ChannelDecoder(Channels.newChannel(new ByteArrayInputStream(log.getBytes(StandardCharsets.UTF_8))), StandardCharsets.UTF_8, 16);
+
+        var actual = Util.reSeq(re, Util.chunkDecoderSeq(decoder));
+
+        assertThat(actual.isRealized()).isFalse();
+        assertThat(actual.map(x -> x.group(1))).hasSize(1001).startsWith("1").endsWith("2");
+        assertThat(actual.last().start()).isEqualTo(log.lastIndexOf("ERROR"));
+        assertThat(Util.reSeq(Pattern.compile("x*"), ISeq.of()).map(MatchResult::group)).containsExactly("");
+        assertThat(Util.reSeq(Pattern.compile("\\d"), ISeq.seq(List.of('a', '1', 'b', '2'))).map(MatchResult::group)).containsExactly("1", "2");
+        assertThat(Util.reSeq(Pattern.compile("\\d"), ISeq.seq("a1b2"))).isInstanceOf(LazySeq.class).hasSize(2);
+    }
+
+    private static ISeq<Character> chunks(String text, int size) {
+        return ISeq.lazySeq(() -> text.isEmpty()
+                ? ISeq.of()
+                : new ChunkedCons<>(new StringChunk(text, 0, Math.min(size, text.length())), chunks(text.substring(Math.min(size, text.length())), size)));
+    }
+
+    @Test
+    void recordSeq() throws IOException {
+        var tmpFile = File.createTempFile("test", ".tmp");
+        var buffer = ByteBuffer.allocate(100 * 12).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 100; i++) {
+            buffer.putLong(i * 1000L).putInt(i);
+        }
+        Files.write(tmpFile.toPath(), buffer.array());
+
+        var sut = Util.<Long>recordSeq(tmpFile.toPath(), 12, ByteOrder.LITTLE_ENDIAN, (b, offset) -> b.getLong(offset) + b.getInt(offset + 8), 12 * 7);
+
+        assertThat(sut).isExactlyInstanceOf(RecordSeq.class).hasSize(100);
+        assertThat(sut.nth(99)).isEqualTo(99099L);
+        assertThat(sut.drop(6).take(2)).containsExactly(6006L, 7007L);
+        assertThat(((RecordSeq<Long>) sut).views().map(x -> x.getInt(8)).reduce(0, Integer::sum)).isEqualTo(4950);
+        assertThat(Util.recordSeq(tmpFile.toPath(), 4, (b, offset) -> b.getInt(offset))).hasSize(300).startsWith(0, 0, 0);
+    }
+
+    @Test
+    void recordSeqOfEmptyOrMisalignedFile() throws IOException {
+        var tmpFile = File.createTempFile("test", ".tmp");
+
+        assertThat(Util.recordSeq(tmpFile.toPath(), 8, (b, offset) -> b.getLong(offset))).isEqualTo(Nil.empty());
+
+        Files.write(tmpFile.toPath(), new byte[10]);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Util.recordSeq(tmpFile.toPath(), 8, (b, offset) -> b.getLong(offset)))
+                .withMessage("size 10 of file " + tmpFile.toPath() + " is not a multiple of recordSize 8");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Util.recordSeq(tmpFile.toPath(), 0, (b, offset) -> b.getLong(offset)))
+                .withMessage("recordSize must be greater than 0 and at most 2147483647");
+    }
+
+    @Test
+    void decode() {
+        var text = "äöü €uro 😀\n".repeat(2000);
+        var bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(Util.decode(ISeq.seq(bytes), StandardCharsets.UTF_8).str()).isEqualTo(text);
+        assertThat(Util.decode(Util.chunkByteSeq(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8).str()).isEqualTo(text);
+        assertThat(Util.decode(ISeq.seq(bytes).map(x -> x), StandardCharsets.UTF_8).str()).isEqualTo(text);
+        assertThat(Util.decode(ISeq.of(), StandardCharsets.UTF_8)).isEmpty();
+    }
+
+    @Test
+    void lineSeq() throws IOException {
+        var tmpFile = File.createTempFile("test", ".tmp");
+        var lines = ISeq.range(10_000).map(x -> "line " + x).reify();
+        Files.write(tmpFile.toPath(), lines, StandardCharsets.UTF_8);
+
+        var sut = Util.lineSeq(tmpFile.toPath(), StandardCharsets.UTF_8);
+
+        assertThat(sut).containsExactlyElementsOf(lines);
+        assertThat(Util.lineSliceSeq(tmpFile.toPath(), StandardCharsets.UTF_8).map(CharSequence::toString)).containsExactlyElementsOf(lines);
+    }
+
+    @Test
+    void lineSeqIsLazy() {
+        var sut = Util.lineSeq(Path.of("does-not-exist"), StandardCharsets.UTF_8);
+
+        assertThat(sut.isRealized()).isFalse();
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> sut.first())
+                .withMessage("unexpected IO error");
+    }
+
     @Test
     void toOutputStream() throws IOException {
         var tmpFile = File.createTempFile("test", ".tmp");
@@ -156,4 +575,66 @@ class UtilTest {
         var actual = Files.readAllLines(tmpFile.toPath(), StandardCharsets.UTF_8);
         assertThat(actual).containsExactly("Hello world!", "foo", "bar");
     }
-}
\ No newline at end of file
+
+    @Test
+    void toOutputStreamWritesOnlyEncodedBytes() throws IOException {
+        var tmpFile = File.createTempFile("test", ".tmp");
+        try (var outputStream = new FileOutputStream(tmpFile)) {
+            ISeq.seq("äöü €").reduce(0, Util.toOutputStream(outputStream, StandardCharsets.UTF_8));
+        }
+
+        assertThat(Files.readString(tmpFile.toPath(), StandardCharsets.UTF_8)).isEqualTo("äöü €");
+    }
+
+    @Test
+    void writeChars() throws IOException {
+        var tmpFile = File.createTempFile("test", ".tmp");
+        var text = "Hello wörld! 😀\n".repeat(1000);
+        try (var channel = new FileOutputStream(tmpFile).getChannel()) {
+
+            var actual = Util.writeChars(ISeq.seq(text), channel, StandardCharsets.UTF_8);
+
+            assertThat(actual).isEqualTo((long) text.length());
+        }
+
+        assertThat(Files.readString(tmpFile.toPath(), StandardCharsets.UTF_8)).isEqualTo(text);
+    }
+
+    @Test
+    void writeCharsWritesChunkedAndUnchunkedSeqs() {
+        var text = "Hello wörld! 😀\n".repeat(100);
+        var decoded = Util.chunkChannelSeq(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))), StandardCharsets.UTF_8);
+        var upper = ISeq.stringSeq(text).mapChars(Character::toUpperCase);
+        var list = new ArrayList<Character>();
+        text.chars().forEach(c -> list.add((char) c));
+
+        assertThat(written(decoded)).isEqualTo(text);
+        assertThat(written(upper)).isEqualTo(text.toUpperCase());
+        assertThat(written(ISeq.stringSeq(text).drop(3))).isEqualTo(text.substring(3));
+        assertThat(written(ISeq.seq(list))).isEqualTo(text);
+        assertThat(written(ISeq.stringSeq(text).drop(5).concat(ISeq.seq(list)))).isEqualTo(text.substring(5) + text);
+        assertThat(written(ISeq.of())).isEmpty();
+    }
+
+    private static String written(ISeq<Character> seq) {
+        var out = new ByteArrayOutputStream();
+        var count = Util.writeChars(seq, Channels.newChannel(out), StandardCharsets.UTF_8);
+        var text = out.toString(StandardCharsets.UTF_8);
+        assertThat(count).isEqualTo(text.length());
+        return text;
+    }
+
+    @Test
+    void writeCharSequences() throws IOException {
+        var tmpFile = File.createTempFile("test", ".tmp");
+        var lines = ISeq.range(10_000).map(x -> "line " + x + "\n");
+        try (var channel = new FileOutputStream(tmpFile).getChannel()) {
+
+            var actual = Util.writeCharSequences(lines, channel, StandardCharsets.UTF_8);
+
+            assertThat(actual).isEqualTo(lines.reduce(0L, (a, b) -> a + b.length()));
+        }
+
+        assertThat(Files.readString(tmpFile.toPath(), StandardCharsets.UTF_8)).isEqualTo(String.join("", lines));
+    }
+}